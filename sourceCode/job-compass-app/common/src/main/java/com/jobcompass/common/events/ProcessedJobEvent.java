@@ -22,8 +22,10 @@ public class ProcessedJobEvent {
     private String title; // Normalized job title
     private String company; // Normalized company name
     private String location; // Normalized location
+    private String description; // Full job description text
     private String salary; // Standardized salary (e.g., "$100k-120k")
-    private String url; // Job posting URL
+    private String url; // Canonical job posting URL
+    private String externalId; // Site job id or hash of the canonical URL, as on the raw event
     private LocalDateTime postedDate; // Actual posting date (converted from raw text)
     private Source source; // Job source
     private Integer jobAgeInDays; // Calculated job age
@@ -24,7 +24,8 @@ public class RawJobEvent {
     private String company; // "Google"
     private String location; // "San Francisco, CA"
     private String description; // Full job description text
-    private String url; // Job posting URL
+    private String url; // Canonical job posting URL
+    private String externalId; // Site job id ("3812345678") or hash of the canonical URL
     private String postedDate; // "2 days ago" (raw text from site)
     private LocalDateTime scrapedAt; // When we scraped this job
 }
@@ -5,6 +5,7 @@ import com.jobcompass.common.model.ScrapeParameters;
 import com.jobcompass.common.model.Source;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interface that all job scrapers must implement.
@@ -26,6 +27,25 @@ public interface JobScraper {
      */
     List<RawJobEvent> scrapeJobs(ScrapeParameters parameters);
 
+    /**
+     * Scrape jobs from this source, handing each job to the sink as soon as
+     * it is extracted instead of collecting them first.
+     * Scrapers that can stream override this; the default scrapes the
+     * complete list and then hands it over.
+     * The sink is called on the scraping thread, so a sink shared by
+     * concurrent scrapes must be thread-safe.
+     *
+     * @param parameters Scraping parameters (age limit, results limit, filters,
+     *                   etc.)
+     * @param sink       Receives each raw job event
+     * @return Number of jobs handed to the sink
+     */
+    default int scrapeJobs(ScrapeParameters parameters, Consumer<RawJobEvent> sink) {
+        List<RawJobEvent> jobs = scrapeJobs(parameters);
+        jobs.forEach(sink);
+        return jobs.size();
+    }
+
     /**
      * Check if this scraper is currently enabled.
      * Can be overridden to enable/disable scrapers dynamically.
@@ -0,0 +1,47 @@
+package com.jobcompass.common.util;
+
+import com.jobcompass.common.events.ProcessedJobEvent;
+import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.model.Source;
+
+/**
+ * Kafka message keys for job events.
+ * A job is keyed by its source name plus its external ID, so jobs spread
+ * across partitions while every event for the same job, including retries
+ * and replays, stays ordered on one partition. Tracking parameters in the
+ * URL do not change the key.
+ */
+public final class JobKeys {
+
+    private JobKeys() {
+    }
+
+    /**
+     * @return the message key of a raw job event
+     */
+    public static String of(RawJobEvent job) {
+        return of(job.getSource(), job.getExternalId(), job.getUrl());
+    }
+
+    /**
+     * @return the message key of a processed job event, the same as for the raw event it came from
+     */
+    public static String of(ProcessedJobEvent job) {
+        return of(job.getSource(), job.getExternalId(), job.getUrl());
+    }
+
+    /**
+     * Build a message key: the source name plus the external ID, derived from
+     * the URL when the event carries none.
+     *
+     * @param source     the job source, may be null
+     * @param externalId the job's external ID, may be null
+     * @param url        the posting URL, may be null
+     * @return the message key; just the source name when the job has no identity
+     */
+    public static String of(Source source, String externalId, String url) {
+        String sourceName = source != null ? source.name() : "unknown";
+        String id = externalId != null ? externalId : JobUrls.externalId(url);
+        return id != null ? sourceName + ":" + id : sourceName;
+    }
+}
@@ -0,0 +1,131 @@
+package com.jobcompass.common.util;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical job URLs and stable job identifiers.
+ * The same posting is scraped under different URLs (per-session tracking
+ * parameters, country subdomains, slugs), so identity is derived from the
+ * site's job id where the URL carries one.
+ */
+public final class JobUrls {
+
+    /**
+     * LinkedIn job ids: /jobs/view/senior-java-developer-at-acme-3812345678 or ?currentJobId=3812345678
+     */
+    private static final Pattern LINKEDIN_JOB_ID = Pattern.compile("(?:/jobs/view/(?:[^/?#]*-)?|[?&]currentJobId=)(\\d{6,})");
+
+    private static final String LINKEDIN_JOB_URL = "https://www.linkedin.com/jobs/view/";
+
+    /**
+     * Query parameters that identify the visit, not the posting
+     */
+    private static final Set<String> TRACKING_PARAMETERS = Set.of(
+            "refid", "trackingid", "trk", "trkinfo", "position", "pagenum", "lipi", "gclid", "fbclid");
+
+    private JobUrls() {
+    }
+
+    /**
+     * Extract the site's job id from a posting URL.
+     *
+     * @return the LinkedIn job id, or null when the URL carries none
+     */
+    public static String jobId(String url) {
+        if (url == null || !isLinkedIn(url)) {
+            return null;
+        }
+        Matcher matcher = LINKEDIN_JOB_ID.matcher(url);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Canonical form of a posting URL. LinkedIn postings map to
+     * https://www.linkedin.com/jobs/view/{id}; other URLs keep their query
+     * without tracking parameters and lose the fragment and trailing slash,
+     * with scheme and host lower-cased.
+     *
+     * @return the canonical URL, or null for a null URL
+     */
+    public static String canonicalize(String url) {
+        if (url == null) {
+            return null;
+        }
+        String jobId = jobId(url);
+        if (jobId != null) {
+            return LINKEDIN_JOB_URL + jobId;
+        }
+        try {
+            URI uri = URI.create(url.trim());
+            if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+                return url.trim();
+            }
+            String path = uri.getRawPath() != null ? uri.getRawPath() : "";
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            String query = stripTracking(uri.getRawQuery());
+            return uri.getScheme().toLowerCase(Locale.ROOT) + "://" + uri.getRawAuthority().toLowerCase(Locale.ROOT)
+                    + path + (query.isEmpty() ? "" : "?" + query);
+        } catch (IllegalArgumentException e) {
+            return url.trim();
+        }
+    }
+
+    /**
+     * Stable identifier of a posting within its source: the site's job id,
+     * or a SHA-256 of the canonical URL when the URL carries none.
+     *
+     * @return the external id, or null for a blank URL
+     */
+    public static String externalId(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        String jobId = jobId(url);
+        return jobId != null ? jobId : sha256(canonicalize(url));
+    }
+
+    private static boolean isLinkedIn(String url) {
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return host != null && (host.equalsIgnoreCase("linkedin.com")
+                    || host.toLowerCase(Locale.ROOT).endsWith(".linkedin.com"));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String stripTracking(String query) {
+        if (query == null || query.isEmpty()) {
+            return "";
+        }
+        List<String> kept = new ArrayList<>();
+        for (String parameter : query.split("&")) {
+            String name = parameter.split("=", 2)[0].toLowerCase(Locale.ROOT);
+            if (!parameter.isEmpty() && !name.startsWith("utm_") && !TRACKING_PARAMETERS.contains(name)) {
+                kept.add(parameter);
+            }
+        }
+        return String.join("&", kept);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.jobcompass.common.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parser for the posted date text job sites show.
+ * Understands ISO dates and date-times ("2026-01-24", "2026-01-24T08:00:00"),
+ * relative phrases in English, German, French, Spanish and Portuguese
+ * ("2 days ago", "30+ days ago", "an hour ago", "3h", "vor 2 Tagen",
+ * "il y a 1 semaine", "hace 3 días", "há 2 dias") and single words such as
+ * "today", "yesterday" or "Recently".
+ * Text that is not understood yields null: the parser is a single forward
+ * scan without regular expressions and never throws, so unparseable input
+ * costs no more than parseable input.
+ */
+public final class PostedDates {
+
+    private static final Map<String, ChronoUnit> UNITS = new HashMap<>();
+    private static final Map<String, Integer> DAYS_BACK = new HashMap<>();
+
+    /**
+     * Words that stand for an amount of one before a unit ("an hour", "vor einem Tag")
+     */
+    private static final Set<String> ONE = Set.of(
+            "a", "an", "one", "ein", "eine", "einem", "einer", "einen", "un", "une", "uno", "una", "um", "uma");
+
+    static {
+        units(ChronoUnit.MINUTES, "m", "min", "mins", "minute", "minutes", "minuten", "minuto", "minutos");
+        units(ChronoUnit.HOURS, "h", "hr", "hrs", "hour", "hours", "stunde", "stunden", "heure", "heures", "hora", "horas");
+        units(ChronoUnit.DAYS, "d", "day", "days", "tag", "tage", "tagen", "jour", "jours", "día", "días", "dia", "dias");
+        units(ChronoUnit.WEEKS, "w", "wk", "wks", "week", "weeks", "woche", "wochen", "semaine", "semaines",
+                "semana", "semanas");
+        units(ChronoUnit.MONTHS, "mo", "mos", "month", "months", "monat", "monate", "monaten", "mois", "mes",
+                "meses", "mês");
+        units(ChronoUnit.YEARS, "y", "yr", "yrs", "year", "years", "jahr", "jahre", "jahren", "an", "ans",
+                "année", "années", "año", "años", "ano", "anos");
+
+        for (String word : new String[]{"today", "now", "recently", "new", "heute", "neu", "gerade",
+                "aujourd'hui", "hoy", "hoje"}) {
+            DAYS_BACK.put(word, 0);
+        }
+        for (String word : new String[]{"yesterday", "gestern", "hier", "ayer", "ontem"}) {
+            DAYS_BACK.put(word, 1);
+        }
+    }
+
+    private PostedDates() {
+    }
+
+    /**
+     * Resolve posted date text to a point in time.
+     *
+     * @param text      the posted date text, may be null
+     * @param reference when the text was read; relative phrases count back from it
+     * @return the posted date-time, or null when the text is not understood
+     */
+    public static LocalDateTime parse(CharSequence text, LocalDateTime reference) {
+        if (text == null || reference == null) {
+            return null;
+        }
+        LocalDate iso = parseIsoDate(text);
+        if (iso != null) {
+            return iso.atStartOfDay();
+        }
+        return parseRelative(text, reference);
+    }
+
+    /**
+     * An ISO date at the start of the text, optionally followed by a time.
+     */
+    private static LocalDate parseIsoDate(CharSequence text) {
+        int start = 0;
+        int length = text.length();
+        while (start < length && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        if (length - start < 10 || text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-') {
+            return null;
+        }
+        int year = digits(text, start, 4);
+        int month = digits(text, start + 5, 2);
+        int day = digits(text, start + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        if (length - start > 10 && !isTimeSeparator(text.charAt(start + 10))) {
+            return null;
+        }
+        if (day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Scan words and numbers; an amount (number or "a"/"an"/...) directly
+     * followed by a unit word decides the result, otherwise a day word does.
+     */
+    private static LocalDateTime parseRelative(CharSequence text, LocalDateTime reference) {
+        int length = text.length();
+        int position = 0;
+        long amount = -1;
+        Integer daysBack = null;
+        StringBuilder word = new StringBuilder();
+
+        while (position < length) {
+            char c = text.charAt(position);
+            if (isDigit(c)) {
+                long number = 0;
+                int end = position;
+                while (end < length && isDigit(text.charAt(end)) && end - position < 6) {
+                    number = number * 10 + (text.charAt(end) - '0');
+                    end++;
+                }
+                while (end < length && isDigit(text.charAt(end))) {
+                    end++;
+                }
+                amount = end - position <= 6 ? number : -1;
+                position = end;
+            } else if (Character.isLetter(c)) {
+                word.setLength(0);
+                while (position < length && (Character.isLetter(text.charAt(position))
+                        || text.charAt(position) == '\'')) {
+                    word.append(Character.toLowerCase(text.charAt(position)));
+                    position++;
+                }
+                String token = word.toString();
+                ChronoUnit unit = amount >= 0 ? UNITS.get(token) : null;
+                if (unit != null) {
+                    return reference.minus(amount, unit);
+                }
+                amount = ONE.contains(token) ? 1 : -1;
+                if (daysBack == null) {
+                    daysBack = DAYS_BACK.get(token);
+                }
+            } else {
+                // Separators such as "+" in "30+ days" keep a pending amount
+                if (!Character.isWhitespace(c) && c != '+') {
+                    amount = -1;
+                }
+                position++;
+            }
+        }
+        return daysBack != null ? reference.minusDays(daysBack) : null;
+    }
+
+    private static void units(ChronoUnit unit, String... words) {
+        for (String word : words) {
+            UNITS.put(word, unit);
+        }
+    }
+
+    /**
+     * Parse a fixed number of ASCII digits.
+     *
+     * @return the value, or -1 if any character is not a digit
+     */
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isTimeSeparator(char c) {
+        return c == 'T' || c == ' ';
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobcompass.common.util;
+
+import com.jobcompass.common.events.ProcessedJobEvent;
+import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.model.Source;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JobKeys.
+ */
+public class JobKeysTest {
+
+    private static final Source LINKEDIN = Source.of("LinkedIn");
+
+    @Test
+    public void testOf_IgnoresTrackingParameters() {
+        String first = JobKeys.of(job("https://www.linkedin.com/jobs/view/3812345678/?refId=1&trackingId=a"));
+        String second = JobKeys.of(job("https://www.linkedin.com/jobs/view/3812345678?refId=2&trackingId=b"));
+
+        assertEquals("LinkedIn:3812345678", first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void testOf_DifferentJobsGetDifferentKeys() {
+        String first = JobKeys.of(job("https://www.linkedin.com/jobs/view/java-dev-1111111111"));
+        String second = JobKeys.of(job("https://www.linkedin.com/jobs/view/java-dev-2222222222"));
+
+        assertNotEquals(first, second);
+        assertNotEquals("LinkedIn", first, "Key must not collapse to the source name");
+    }
+
+    @Test
+    public void testOf_FallsBackToCanonicalUrlHash() {
+        String first = JobKeys.of(job("https://Careers.Example.com/jobs/42/?utm_source=x"));
+        String second = JobKeys.of(job("https://careers.example.com/jobs/42"));
+
+        assertEquals(first, second);
+        assertTrue(first.startsWith("LinkedIn:"));
+    }
+
+    @Test
+    public void testOf_ProcessedEventKeepsTheRawKey() {
+        RawJobEvent raw = job("https://de.linkedin.com/jobs/view/java-dev-at-acme-3812345678?trk=x");
+        ProcessedJobEvent processed = ProcessedJobEvent.builder()
+                .source(LINKEDIN)
+                .url("https://www.linkedin.com/jobs/view/3812345678")
+                .externalId("3812345678")
+                .build();
+
+        assertEquals(JobKeys.of(raw), JobKeys.of(processed));
+    }
+
+    private static RawJobEvent job(String url) {
+        return RawJobEvent.builder()
+                .source(LINKEDIN)
+                .title("Java Developer")
+                .url(url)
+                .build();
+    }
+}
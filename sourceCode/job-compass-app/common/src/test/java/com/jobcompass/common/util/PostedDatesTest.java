@@ -0,0 +1,56 @@
+package com.jobcompass.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests for PostedDates.
+ */
+public class PostedDatesTest {
+
+    private static final LocalDateTime SCRAPED_AT = LocalDateTime.of(2026, 3, 10, 12, 0);
+
+    @Test
+    public void testParse_IsoDates() {
+        assertEquals(LocalDateTime.of(2026, 3, 1, 0, 0), PostedDates.parse("2026-03-01", SCRAPED_AT));
+        assertEquals(LocalDateTime.of(2026, 3, 1, 0, 0), PostedDates.parse("2026-03-01T08:30:00", SCRAPED_AT));
+        assertNull(PostedDates.parse("2026-02-30", SCRAPED_AT));
+        assertNull(PostedDates.parse("2026-13-01", SCRAPED_AT));
+    }
+
+    @Test
+    public void testParse_RelativeAndLocalized() {
+        assertEquals(SCRAPED_AT.minusWeeks(2), PostedDates.parse("2 weeks ago", SCRAPED_AT));
+        assertEquals(SCRAPED_AT.minusDays(30), PostedDates.parse("30+ days ago", SCRAPED_AT));
+        assertEquals(SCRAPED_AT.minusHours(1), PostedDates.parse("an hour ago", SCRAPED_AT));
+        assertEquals(SCRAPED_AT.minusHours(3), PostedDates.parse("3h", SCRAPED_AT));
+        assertEquals(SCRAPED_AT.minusDays(2), PostedDates.parse("vor 2 Tagen", SCRAPED_AT));
+        assertEquals(SCRAPED_AT.minusDays(1), PostedDates.parse("vor einem Tag", SCRAPED_AT));
+        assertEquals(SCRAPED_AT.minusWeeks(1), PostedDates.parse("il y a 1 semaine", SCRAPED_AT));
+        assertEquals(SCRAPED_AT.minusYears(1), PostedDates.parse("il y a un an", SCRAPED_AT));
+        assertEquals(SCRAPED_AT.minusDays(3), PostedDates.parse("hace 3 días", SCRAPED_AT));
+        assertEquals(SCRAPED_AT.minusDays(1), PostedDates.parse("Yesterday", SCRAPED_AT));
+        assertEquals(SCRAPED_AT, PostedDates.parse("Recently", SCRAPED_AT));
+    }
+
+    @Test
+    public void testParse_WithinTheLastDayKeepsTheScrapeDate() {
+        LocalDate scrapeDate = SCRAPED_AT.toLocalDate();
+
+        assertEquals(scrapeDate, PostedDates.parse("5 minutes ago", SCRAPED_AT).toLocalDate());
+        assertEquals(scrapeDate, PostedDates.parse("3 hours ago", SCRAPED_AT).toLocalDate());
+        assertEquals(scrapeDate.minusDays(1), PostedDates.parse("3 hours ago", SCRAPED_AT.withHour(1)).toLocalDate());
+    }
+
+    @Test
+    public void testParse_UnknownTextIsNull() {
+        assertNull(PostedDates.parse("sometime", SCRAPED_AT));
+        assertNull(PostedDates.parse(null, SCRAPED_AT));
+        assertNull(PostedDates.parse("2 days ago", null));
+    }
+}
@@ -0,0 +1,23 @@
+package com.jobcompass.processor;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+
+/**
+ * Main application class for the Processor Service.
+ * This service reads raw job data from Kafka, normalizes and enriches it in a
+ * Kafka Streams pipeline, and publishes processed job data back to Kafka.
+ * Instances share the work by raw-jobs partition, so the service scales out
+ * by adding instances or stream threads.
+ *
+ * @author Palraj Jayaraj
+ */
+@SpringBootApplication
+@EnableKafkaStreams
+public class ProcessorServiceApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ProcessorServiceApplication.class, args);
+    }
+}
@@ -0,0 +1,30 @@
+package com.jobcompass.processor.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * Kafka topic declarations for the Processor Service.
+ * The raw-jobs partition count caps how many stream tasks can process in
+ * parallel across all instances; processed-jobs gets its own count for the
+ * storage consumers.
+ *
+ * @author Palraj Jayaraj
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    @Value("${jobcompass.processor.processed-jobs-partitions:6}")
+    private int processedJobsPartitions;
+
+    @Bean
+    public NewTopic processedJobsTopic() {
+        return TopicBuilder.name("processed-jobs")
+                .partitions(processedJobsPartitions)
+                .replicas(1)
+                .build();
+    }
+}
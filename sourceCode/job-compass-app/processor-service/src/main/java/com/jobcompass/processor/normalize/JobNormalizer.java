@@ -0,0 +1,102 @@
+package com.jobcompass.processor.normalize;
+
+import com.jobcompass.common.events.ProcessedJobEvent;
+import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.util.JobUrls;
+import com.jobcompass.common.util.PostedDates;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Turns a raw scraped job into a processed job: collapses whitespace,
+ * strips gender tags such as "(m/w/d)" from titles, removes repeated
+ * location parts, resolves the posted date text to a date, extracts a
+ * standardized salary and computes the job age.
+ * Company names are only trimmed, since storage keys companies on the name.
+ *
+ * @author Palraj Jayaraj
+ */
+@Component
+public class JobNormalizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Pattern GENDER_TAG = Pattern.compile(
+            "\\s*[(\\[](?:[mwfdx*]\\s*/\\s*){1,3}[mwfdx*][)\\]]|\\s*\\((?:all genders|alle geschlechter)\\)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final Clock clock;
+
+    public JobNormalizer() {
+        this(Clock.systemDefaultZone());
+    }
+
+    JobNormalizer(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Normalize a raw job.
+     *
+     * @param event the raw job event
+     * @return the processed job event
+     */
+    public ProcessedJobEvent normalize(RawJobEvent event) {
+        LocalDateTime scrapedAt = event.getScrapedAt() != null ? event.getScrapedAt() : LocalDateTime.now(clock);
+        LocalDateTime postedDate = PostedDates.parse(event.getPostedDate(), scrapedAt);
+
+        String salary = SalaryParser.parse(event.getTitle());
+        if (salary == null) {
+            salary = SalaryParser.parse(event.getDescription());
+        }
+
+        return ProcessedJobEvent.builder()
+                .title(normalizeTitle(event.getTitle()))
+                .company(collapseWhitespace(event.getCompany()))
+                .location(normalizeLocation(event.getLocation()))
+                .description(event.getDescription())
+                .salary(salary)
+                .url(JobUrls.canonicalize(event.getUrl()))
+                .externalId(event.getExternalId() != null ? event.getExternalId() : JobUrls.externalId(event.getUrl()))
+                .postedDate(postedDate)
+                .source(event.getSource())
+                .jobAgeInDays(postedDate != null
+                        ? (int) Math.max(0, ChronoUnit.DAYS.between(postedDate.toLocalDate(), scrapedAt.toLocalDate()))
+                        : null)
+                .build();
+    }
+
+    static String normalizeTitle(String title) {
+        String collapsed = collapseWhitespace(title);
+        return collapsed != null ? GENDER_TAG.matcher(collapsed).replaceAll("").trim() : null;
+    }
+
+    /**
+     * Collapse whitespace and drop location parts that repeat the previous
+     * part, e.g. "Berlin, Berlin, Germany" becomes "Berlin, Germany".
+     */
+    static String normalizeLocation(String location) {
+        String collapsed = collapseWhitespace(location);
+        if (collapsed == null) {
+            return null;
+        }
+        List<String> parts = new ArrayList<>();
+        for (String part : collapsed.split(",")) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty() && (parts.isEmpty() || !parts.get(parts.size() - 1).equalsIgnoreCase(trimmed))) {
+                parts.add(trimmed);
+            }
+        }
+        return String.join(", ", parts);
+    }
+
+    private static String collapseWhitespace(String value) {
+        return value != null ? WHITESPACE.matcher(value).replaceAll(" ").trim() : null;
+    }
+}
@@ -0,0 +1,82 @@
+package com.jobcompass.processor.normalize;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds a salary in job text and standardizes it, e.g.
+ * "$100,000 - $120,000 a year" becomes "$100k-120k" and
+ * "€25 to €30 per hour" becomes "€25-30/hr".
+ * Only amounts with a currency symbol are recognized, so years of
+ * experience and other numbers are never mistaken for a salary.
+ *
+ * @author Palraj Jayaraj
+ */
+public final class SalaryParser {
+
+    private static final String AMOUNT = "(\\d{1,3}(?:[,.]\\d{3})+|\\d+(?:\\.\\d{1,2})?)";
+
+    private static final Pattern SALARY = Pattern.compile(
+            "([$€£])\\s?" + AMOUNT + "\\s?([kK])?"
+                    + "(?:\\s?(?:-|–|—|to)\\s?[$€£]?\\s?" + AMOUNT + "\\s?([kK])?)?"
+                    + "(?:\\s?(?:/|per|an|a)\\s?(hour|hr|year|yr|annum|month|mo)\\b)?");
+
+    private static final Pattern GROUPED = Pattern.compile("\\d{1,3}(?:[,.]\\d{3})+");
+
+    private static final BigDecimal THOUSAND = BigDecimal.valueOf(1000);
+
+    private SalaryParser() {
+    }
+
+    /**
+     * Find the first salary in a text.
+     *
+     * @param text the text to search, may be null
+     * @return the standardized salary, or null when the text has none
+     */
+    public static String parse(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        Matcher matcher = SALARY.matcher(text);
+        if (!matcher.find()) {
+            return null;
+        }
+
+        String currency = matcher.group(1);
+        BigDecimal min = amount(matcher.group(2), matcher.group(3) != null);
+        BigDecimal max = matcher.group(4) != null ? amount(matcher.group(4), matcher.group(5) != null) : null;
+        String period = matcher.group(6) != null ? matcher.group(6).toLowerCase(Locale.ROOT) : "";
+
+        StringBuilder salary = new StringBuilder(currency).append(format(min));
+        if (max != null && max.compareTo(min) != 0) {
+            salary.append('-').append(format(max));
+        }
+        switch (period) {
+            case "hour", "hr" -> salary.append("/hr");
+            case "month", "mo" -> salary.append("/mo");
+            default -> {
+                // Yearly is the default
+            }
+        }
+        return salary.toString();
+    }
+
+    private static BigDecimal amount(String digits, boolean thousands) {
+        BigDecimal value = GROUPED.matcher(digits).matches()
+                ? new BigDecimal(digits.replace(",", "").replace(".", ""))
+                : new BigDecimal(digits);
+        return thousands ? value.multiply(THOUSAND) : value;
+    }
+
+    private static String format(BigDecimal value) {
+        if (value.compareTo(THOUSAND) >= 0) {
+            BigDecimal thousands = value.divide(THOUSAND, 1, RoundingMode.HALF_UP).stripTrailingZeros();
+            return thousands.toPlainString() + "k";
+        }
+        return value.stripTrailingZeros().toPlainString();
+    }
+}
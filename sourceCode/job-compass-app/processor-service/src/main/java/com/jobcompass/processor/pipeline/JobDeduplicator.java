@@ -0,0 +1,109 @@
+package com.jobcompass.processor.pipeline;
+
+import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.util.JobUrls;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.processor.PunctuationType;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Drops raw jobs that repeat the last event seen for the same key within
+ * the dedup window, and keys events that arrive without a key.
+ * Overlapping searches in one scrape run return the same postings many
+ * times; only the first copy is normalized and published.
+ * The last content fingerprint and event time per key are kept in a local,
+ * changelog-backed state store, so dedup state moves with its partition
+ * when instances are added or removed. Entries older than the window are
+ * purged periodically to bound the store.
+ *
+ * @author Palraj Jayaraj
+ */
+class JobDeduplicator implements Processor<String, RawJobEvent, String, RawJobEvent> {
+
+    private static final char SEPARATOR = '\u001F';
+
+    private final String storeName;
+    private final Duration window;
+
+    private ProcessorContext<String, RawJobEvent> context;
+    private KeyValueStore<String, String> store;
+
+    JobDeduplicator(String storeName, Duration window) {
+        this.storeName = storeName;
+        this.window = window;
+    }
+
+    @Override
+    public void init(ProcessorContext<String, RawJobEvent> context) {
+        this.context = context;
+        this.store = context.getStateStore(storeName);
+        context.schedule(window, PunctuationType.WALL_CLOCK_TIME, this::purge);
+    }
+
+    @Override
+    public void process(Record<String, RawJobEvent> record) {
+        String key = record.key() != null ? record.key() : key(record.value());
+        String fingerprint = fingerprint(record.value());
+        String previous = store.get(key);
+        if (previous != null) {
+            int separator = previous.indexOf(':');
+            long seenAt = Long.parseLong(previous.substring(0, separator));
+            if (previous.substring(separator + 1).equals(fingerprint)
+                    && record.timestamp() - seenAt < window.toMillis()) {
+                return;
+            }
+        }
+        store.put(key, record.timestamp() + ":" + fingerprint);
+        context.forward(record.withKey(key));
+    }
+
+    private void purge(long now) {
+        List<String> expired = new ArrayList<>();
+        try (KeyValueIterator<String, String> entries = store.all()) {
+            while (entries.hasNext()) {
+                KeyValue<String, String> entry = entries.next();
+                long seenAt = Long.parseLong(entry.value.substring(0, entry.value.indexOf(':')));
+                if (now - seenAt >= window.toMillis()) {
+                    expired.add(entry.key);
+                }
+            }
+        }
+        expired.forEach(store::delete);
+    }
+
+    /**
+     * Key for events published without one, the same key the scraper's
+     * producer uses: source name and external ID.
+     */
+    static String key(RawJobEvent event) {
+        String source = event.getSource() != null ? event.getSource().name() : "unknown";
+        String externalId = event.getExternalId() != null ? event.getExternalId() : JobUrls.externalId(event.getUrl());
+        return source + ":" + externalId;
+    }
+
+    /**
+     * SHA-256 over the scraped content fields.
+     */
+    static String fingerprint(RawJobEvent event) {
+        String content = String.valueOf(event.getTitle()) + SEPARATOR + event.getCompany() + SEPARATOR
+                + event.getLocation() + SEPARATOR + event.getDescription() + SEPARATOR + event.getPostedDate();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.jobcompass.processor.pipeline;
+
+import com.jobcompass.common.events.ProcessedJobEvent;
+import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.processor.normalize.JobNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.state.Stores;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.serializer.JsonSerde;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * The raw-jobs to processed-jobs topology:
+ * drop events without a URL, drop repeats within the dedup window,
+ * normalize, publish.
+ * Records keep their raw-jobs key, so every update of a job is processed
+ * on the same partition, in order, by the instance that owns its dedup state.
+ *
+ * @author Palraj Jayaraj
+ */
+@Component
+@Slf4j
+public class JobPipeline {
+
+    static final String RAW_JOBS_TOPIC = "raw-jobs";
+    static final String PROCESSED_JOBS_TOPIC = "processed-jobs";
+    static final String DEDUP_STORE = "raw-job-dedup";
+
+    private final JobNormalizer jobNormalizer;
+    private final Duration dedupWindow;
+
+    public JobPipeline(JobNormalizer jobNormalizer,
+                       @Value("${jobcompass.processor.dedup-window:1h}") Duration dedupWindow) {
+        this.jobNormalizer = jobNormalizer;
+        this.dedupWindow = dedupWindow;
+    }
+
+    /**
+     * Add the pipeline to the application's streams builder.
+     *
+     * @param builder the streams builder
+     */
+    @Autowired
+    public void build(StreamsBuilder builder) {
+        Serde<RawJobEvent> rawSerde = jsonSerde(RawJobEvent.class);
+        Serde<ProcessedJobEvent> processedSerde = jsonSerde(ProcessedJobEvent.class);
+
+        builder.addStateStore(Stores.keyValueStoreBuilder(
+                Stores.persistentKeyValueStore(DEDUP_STORE), Serdes.String(), Serdes.String()));
+
+        KStream<String, RawJobEvent> raw = builder.stream(RAW_JOBS_TOPIC, Consumed.with(Serdes.String(), rawSerde));
+        raw.filter((key, event) -> event != null && event.getUrl() != null && !event.getUrl().isBlank())
+                .process(() -> new JobDeduplicator(DEDUP_STORE, dedupWindow), DEDUP_STORE)
+                .mapValues(jobNormalizer::normalize)
+                .peek((key, event) -> log.debug("Processed job {}: {} at {}", key, event.getTitle(), event.getCompany()))
+                .to(PROCESSED_JOBS_TOPIC, Produced.with(Serdes.String(), processedSerde));
+    }
+
+    /**
+     * JSON without type headers, matching the scraper's producer settings.
+     */
+    private static <T> Serde<T> jsonSerde(Class<T> type) {
+        JsonSerde<T> serde = new JsonSerde<>(type);
+        serde.ignoreTypeHeaders().noTypeInfo();
+        return serde;
+    }
+}
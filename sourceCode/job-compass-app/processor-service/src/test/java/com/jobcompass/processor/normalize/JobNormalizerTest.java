@@ -0,0 +1,55 @@
+package com.jobcompass.processor.normalize;
+
+import com.jobcompass.common.events.ProcessedJobEvent;
+import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.model.Source;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests for JobNormalizer and SalaryParser.
+ */
+public class JobNormalizerTest {
+
+    private static final LocalDateTime SCRAPED_AT = LocalDateTime.of(2026, 3, 10, 12, 0);
+
+    private final JobNormalizer normalizer = new JobNormalizer();
+
+    @Test
+    public void testNormalize_CleansFieldsAndComputesAge() {
+        RawJobEvent event = RawJobEvent.builder()
+                .source(Source.of("LinkedIn"))
+                .title("  Senior Java   Developer (m/w/d) ")
+                .company(" Acme  GmbH ")
+                .location("Berlin, Berlin, Germany")
+                .description("Pay: €70,000 - €85,000 per year. 5+ years of Java.")
+                .url("https://de.linkedin.com/jobs/view/java-developer-at-acme-3812345678?trk=abc")
+                .postedDate("3 days ago")
+                .scrapedAt(SCRAPED_AT)
+                .build();
+
+        ProcessedJobEvent processed = normalizer.normalize(event);
+
+        assertEquals("Senior Java Developer", processed.getTitle());
+        assertEquals("Acme GmbH", processed.getCompany());
+        assertEquals("Berlin, Germany", processed.getLocation());
+        assertEquals("€70k-85k", processed.getSalary());
+        assertEquals("https://www.linkedin.com/jobs/view/3812345678", processed.getUrl());
+        assertEquals("3812345678", processed.getExternalId());
+        assertEquals(SCRAPED_AT.minusDays(3), processed.getPostedDate());
+        assertEquals(3, processed.getJobAgeInDays());
+    }
+
+    @Test
+    public void testSalaryParser_Formats() {
+        assertEquals("$100k-120k", SalaryParser.parse("Salary $100,000 - $120,000 a year"));
+        assertEquals("$95k-110k", SalaryParser.parse("$95K to $110K"));
+        assertEquals("£25-30/hr", SalaryParser.parse("£25 – £30 per hour"));
+        assertEquals("€4.5k/mo", SalaryParser.parse("€4.500 / month"));
+        assertNull(SalaryParser.parse("5+ years of experience with 100 microservices"));
+    }
+}
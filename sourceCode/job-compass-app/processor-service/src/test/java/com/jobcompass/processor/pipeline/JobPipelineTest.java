@@ -0,0 +1,107 @@
+package com.jobcompass.processor.pipeline;
+
+import com.jobcompass.common.events.ProcessedJobEvent;
+import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.model.Source;
+import com.jobcompass.processor.normalize.JobNormalizer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.test.TestRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Topology tests for JobPipeline.
+ */
+public class JobPipelineTest {
+
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, RawJobEvent> rawJobs;
+    private TestOutputTopic<String, ProcessedJobEvent> processedJobs;
+
+    @BeforeEach
+    public void setUp() {
+        StreamsBuilder builder = new StreamsBuilder();
+        new JobPipeline(new JobNormalizer(), Duration.ofHours(1)).build(builder);
+
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "processor-service-test");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        driver = new TopologyTestDriver(builder.build(), props);
+
+        JsonSerializer<RawJobEvent> serializer = new JsonSerializer<>();
+        serializer.setAddTypeInfo(false);
+        rawJobs = driver.createInputTopic(JobPipeline.RAW_JOBS_TOPIC, new StringSerializer(), serializer);
+        JsonDeserializer<ProcessedJobEvent> deserializer = new JsonDeserializer<>(ProcessedJobEvent.class, false);
+        processedJobs = driver.createOutputTopic(JobPipeline.PROCESSED_JOBS_TOPIC, new StringDeserializer(), deserializer);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        driver.close();
+    }
+
+    @Test
+    public void testPipeline_NormalizesAndKeepsKey() {
+        rawJobs.pipeInput("LinkedIn:1", event("1", "Java  Developer (m/f/d)"), Instant.parse("2026-03-10T12:00:00Z"));
+
+        List<TestRecord<String, ProcessedJobEvent>> records = processedJobs.readRecordsToList();
+        assertEquals(1, records.size());
+        assertEquals("LinkedIn:1", records.get(0).key());
+        assertEquals("Java Developer", records.get(0).value().getTitle());
+    }
+
+    @Test
+    public void testPipeline_DropsRepeatsWithinWindow() {
+        Instant start = Instant.parse("2026-03-10T12:00:00Z");
+        rawJobs.pipeInput("LinkedIn:1", event("1", "Java Developer"), start);
+        rawJobs.pipeInput("LinkedIn:1", event("1", "Java Developer"), start.plusSeconds(60));
+        // Changed content is published even within the window
+        rawJobs.pipeInput("LinkedIn:1", event("1", "Senior Java Developer"), start.plusSeconds(120));
+        // Unchanged content is published again once the window has passed
+        rawJobs.pipeInput("LinkedIn:1", event("1", "Senior Java Developer"), start.plus(Duration.ofHours(2)));
+
+        assertEquals(3, processedJobs.readRecordsToList().size());
+    }
+
+    @Test
+    public void testPipeline_KeysUnkeyedEventsAndSkipsEventsWithoutUrl() {
+        rawJobs.pipeInput(null, event("3812345678", "Java Developer"));
+        RawJobEvent withoutUrl = event("2", "Java Developer");
+        withoutUrl.setUrl(null);
+        rawJobs.pipeInput("LinkedIn:2", withoutUrl);
+
+        List<TestRecord<String, ProcessedJobEvent>> records = processedJobs.readRecordsToList();
+        assertEquals(1, records.size());
+        assertEquals("LinkedIn:3812345678", records.get(0).key());
+    }
+
+    private RawJobEvent event(String id, String title) {
+        return RawJobEvent.builder()
+                .source(Source.of("LinkedIn"))
+                .title(title)
+                .company("Acme")
+                .location("Berlin")
+                .url("https://www.linkedin.com/jobs/view/" + id)
+                .externalId(id)
+                .postedDate("1 day ago")
+                .scrapedAt(LocalDateTime.of(2026, 3, 10, 12, 0))
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.jobcompass.scraper.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A fixed number of browser workers that scrapes run on concurrently.
+ * Playwright objects may only be used from the thread that created them, so
+ * each worker thread owns its own Playwright instance and Chromium browser,
+ * launched on first use; scrapers open a fresh BrowserContext on it per query.
+ * The pool size therefore bounds both the number of concurrent scrapes and
+ * the number of browsers.
+ *
+ * @author Palraj Jayaraj
+ */
+@Slf4j
+public class BrowserPool implements AutoCloseable {
+
+    private final int size;
+    private final boolean headless;
+    private final Supplier<Playwright> playwrightFactory;
+    private final ExecutorService workers;
+    private final ThreadLocal<Worker> worker = new ThreadLocal<>();
+    private final List<Worker> started = new ArrayList<>();
+
+    public BrowserPool(int size, boolean headless) {
+        this(size, headless, Playwright::create);
+    }
+
+    public BrowserPool(int size, boolean headless, Supplier<Playwright> playwrightFactory) {
+        this.size = size;
+        this.headless = headless;
+        this.playwrightFactory = playwrightFactory;
+        this.workers = Executors.newFixedThreadPool(size, new WorkerThreadFactory());
+    }
+
+    /**
+     * Run a task on a free browser worker.
+     * Inside the task, {@link #withBrowser(Function)} uses that worker's browser.
+     *
+     * @param task the task
+     * @return the task's result, completed when the task has run
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, workers);
+    }
+
+    /**
+     * Run work against a browser.
+     * On a worker thread the work runs inline on that worker's browser;
+     * on any other thread it is handed to a free worker and waited for.
+     *
+     * @param work the work to run
+     * @return the work's result
+     */
+    public <T> T withBrowser(Function<Browser, T> work) {
+        if (worker.get() != null) {
+            return work.apply(worker.get().browser());
+        }
+        return submit(() -> work.apply(worker.get().browser())).join();
+    }
+
+    /**
+     * @return the number of browser workers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Stop the workers, then close their browsers.
+     * Closing happens after the workers have terminated, so no browser is
+     * used by two threads at once.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(60, TimeUnit.SECONDS)) {
+            log.warn("Browser workers still busy after 60s, closing browsers anyway");
+            workers.shutdownNow();
+        }
+        synchronized (started) {
+            for (Worker w : started) {
+                w.close();
+            }
+            started.clear();
+        }
+    }
+
+    /**
+     * A worker thread's Playwright instance and browser, launched on first use.
+     */
+    private final class Worker {
+
+        private Playwright playwright;
+        private Browser browser;
+
+        Browser browser() {
+            // Relaunch a browser that crashed or was disconnected
+            if (browser == null || !browser.isConnected()) {
+                if (playwright == null) {
+                    playwright = playwrightFactory.get();
+                }
+                browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(headless));
+                log.info("Launched browser for {}", Thread.currentThread().getName());
+            }
+            return browser;
+        }
+
+        void close() {
+            if (browser != null) {
+                browser.close();
+            }
+            if (playwright != null) {
+                playwright.close();
+            }
+        }
+    }
+
+    private final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Worker w = new Worker();
+            synchronized (started) {
+                started.add(w);
+            }
+            Thread thread = new Thread(() -> {
+                worker.set(w);
+                runnable.run();
+            }, "browser-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
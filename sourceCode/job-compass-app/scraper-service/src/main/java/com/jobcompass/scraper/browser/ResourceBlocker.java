@@ -0,0 +1,111 @@
+package com.jobcompass.scraper.browser;
+
+import com.jobcompass.scraper.config.ResourceBlockingProperties;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Keeps scrapes from downloading resources extraction never reads, such as
+ * images, fonts, video previews and tracking beacons, by aborting them
+ * through Playwright request routing on each BrowserContext.
+ * Counts blocked requests and their typical bytes per resource type
+ * ({@code jobcompass.scraper.resources.blocked},
+ * {@code jobcompass.scraper.resources.bytes-saved}), next to the bytes
+ * actually loaded ({@code jobcompass.scraper.resources.bytes-loaded}).
+ *
+ * @author Palraj Jayaraj
+ */
+@Component
+@Slf4j
+public class ResourceBlocker {
+
+    private final ResourceBlockingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ResourceBlocker(ResourceBlockingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Route the context's requests through the blocking policy.
+     *
+     * @param context a new browser context, before any page is opened
+     */
+    public void install(BrowserContext context) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        context.route("**/*", this::handle);
+        context.onRequestFinished(this::loaded);
+    }
+
+    void handle(Route route) {
+        Request request = route.request();
+        String type = request.resourceType();
+        String host = host(request.url());
+        if (!blocks(type, host)) {
+            route.resume();
+            return;
+        }
+        route.abort("blockedbyclient");
+        DataSize typicalSize = properties.getTypicalSizes().getOrDefault(type, properties.getDefaultTypicalSize());
+        meterRegistry.counter("jobcompass.scraper.resources.blocked", "type", type).increment();
+        meterRegistry.counter("jobcompass.scraper.resources.bytes-saved", "type", type).increment(typicalSize.toBytes());
+        log.trace("Blocked {} {}", type, request.url());
+    }
+
+    /**
+     * Whether a request is blocked: its type or domain is denied and
+     * neither is allowed.
+     */
+    boolean blocks(String type, String host) {
+        if (properties.getAllowedTypes().contains(type) || matches(host, properties.getAllowedDomains())) {
+            return false;
+        }
+        return properties.getBlockedTypes().contains(type) || matches(host, properties.getBlockedDomains());
+    }
+
+    private void loaded(Request request) {
+        try {
+            long bytes = request.sizes().responseBodySize;
+            if (bytes > 0) {
+                meterRegistry.counter("jobcompass.scraper.resources.bytes-loaded", "type", request.resourceType())
+                        .increment(bytes);
+            }
+        } catch (PlaywrightException e) {
+            log.trace("No sizes for {}: {}", request.url(), e.getMessage());
+        }
+    }
+
+    private static boolean matches(String host, List<String> domains) {
+        if (host == null) {
+            return false;
+        }
+        for (String domain : domains) {
+            if (host.equals(domain) || host.endsWith("." + domain)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String host(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.jobcompass.scraper.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * Kafka topic declarations for the Scraper Service.
+ * The raw-jobs partition count caps how many storage consumer threads
+ * can ingest in parallel; existing topics are grown to this size on startup.
+ *
+ * @author Palraj Jayaraj
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    @Value("${jobcompass.scraper.raw-jobs-partitions:6}")
+    private int rawJobsPartitions;
+
+    @Bean
+    public NewTopic rawJobsTopic() {
+        return TopicBuilder.name("raw-jobs")
+                .partitions(rawJobsPartitions)
+                .replicas(1)
+                .build();
+    }
+}
@@ -1,49 +1,25 @@
 package com.jobcompass.scraper.config;
 
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserType;
-import com.microsoft.playwright.Playwright;
+import com.jobcompass.scraper.browser.BrowserPool;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import jakarta.annotation.PreDestroy;
-
 /**
  * Configuration for Microsoft Playwright.
- * Manages the lifecycle of the Playwright instance and Browser.
+ * Manages the lifecycle of the browser pool scrapes run on.
  */
 @Configuration
 public class PlaywrightConfig {
 
-    private Playwright playwright;
-    private Browser browser;
-
-    @Bean
-    public Playwright playwright() {
-        if (playwright == null) {
-            playwright = Playwright.create();
-        }
-        return playwright;
-    }
-
-    @Bean
-    public Browser browser(Playwright playwright) {
-        if (browser == null) {
-            // Launch Chromium in headless mode (default)
-            // Can be configured via properties if needed
-            browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
-                    .setHeadless(true));
-        }
-        return browser;
-    }
+    @Value("${jobcompass.scraper.browser-pool-size:3}")
+    private int browserPoolSize;
 
-    @PreDestroy
-    public void close() {
-        if (browser != null) {
-            browser.close();
-        }
-        if (playwright != null) {
-            playwright.close();
-        }
+    /**
+     * Browsers are launched in headless mode (default) as workers first need them.
+     */
+    @Bean(destroyMethod = "close")
+    public BrowserPool browserPool() {
+        return new BrowserPool(browserPoolSize, true);
     }
 }
@@ -0,0 +1,42 @@
+package com.jobcompass.scraper.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for request rate limits per job source.
+ * Sources without an entry under rate-limits use the defaults.
+ *
+ * @author Palraj Jayaraj
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jobcompass.scraper")
+public class RateLimitProperties {
+
+    /**
+     * Default seconds between requests to one source
+     */
+    private double rateLimitSeconds = 3;
+
+    /**
+     * Default number of requests a source may receive back to back after being idle
+     */
+    private int rateLimitBurst = 6;
+
+    /**
+     * Per-source overrides, keyed by source name
+     */
+    private Map<String, Limit> rateLimits = new HashMap<>();
+
+    @Data
+    public static class Limit {
+
+        private Double seconds;
+        private Integer burst;
+    }
+}
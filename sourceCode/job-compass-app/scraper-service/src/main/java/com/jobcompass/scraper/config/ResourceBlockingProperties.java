@@ -0,0 +1,58 @@
+package com.jobcompass.scraper.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration properties for the resources scrapes do not download.
+ * A request is blocked when its resource type or domain is denied, unless
+ * its resource type or domain is allowed; allow entries win.
+ * Domains match themselves and their subdomains.
+ *
+ * @author Palraj Jayaraj
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jobcompass.scraper.resource-blocking")
+public class ResourceBlockingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Playwright resource types to block, e.g. image, media, font, stylesheet
+     */
+    private List<String> blockedTypes = new ArrayList<>(List.of("image", "media", "font"));
+
+    /**
+     * Resource types that are never blocked
+     */
+    private List<String> allowedTypes = new ArrayList<>(List.of("document"));
+
+    /**
+     * Domains to block whatever the resource type, e.g. analytics and ad trackers
+     */
+    private List<String> blockedDomains = new ArrayList<>();
+
+    /**
+     * Domains that are never blocked
+     */
+    private List<String> allowedDomains = new ArrayList<>();
+
+    /**
+     * Typical size of a resource of each type, counted as saved per blocked
+     * request since a blocked response is never seen
+     */
+    private Map<String, DataSize> typicalSizes = new HashMap<>();
+
+    /**
+     * Typical size of blocked resources of types without an entry
+     */
+    private DataSize defaultTypicalSize = DataSize.ofKilobytes(5);
+}
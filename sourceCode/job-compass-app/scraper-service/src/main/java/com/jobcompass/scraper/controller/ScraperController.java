@@ -5,6 +5,7 @@ import com.jobcompass.common.model.ScrapeParameters;
 import com.jobcompass.scraper.dto.ScrapeRequest;
 import com.jobcompass.scraper.kafka.RawJobProducer;
 import com.jobcompass.scraper.scrapers.LinkedInScraper;
+import com.jobcompass.scraper.service.ScrapeExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,10 +26,13 @@ public class ScraperController {
 
     private final LinkedInScraper linkedInScraper;
     private final RawJobProducer rawJobProducer;
+    private final ScrapeExecutor scrapeExecutor;
 
-    public ScraperController(LinkedInScraper linkedInScraper, RawJobProducer rawJobProducer) {
+    public ScraperController(LinkedInScraper linkedInScraper, RawJobProducer rawJobProducer,
+            ScrapeExecutor scrapeExecutor) {
         this.linkedInScraper = linkedInScraper;
         this.rawJobProducer = rawJobProducer;
+        this.scrapeExecutor = scrapeExecutor;
     }
 
     /**
@@ -51,7 +55,8 @@ public class ScraperController {
 
     /**
      * Trigger LinkedIn scraping for multiple skills (New - JSON Body)
-     * Execute asynchronously to prevent request timeout
+     * Execute asynchronously to prevent request timeout; skills are scraped
+     * concurrently on the browser pool
      */
     @PostMapping("/trigger/multi-skill")
     public String scrapeMultipleSkills(@RequestBody ScrapeRequest request) {
@@ -60,47 +65,30 @@ public class ScraperController {
         // Run scraping in background thread
         java.util.concurrent.CompletableFuture.runAsync(() -> {
             try {
-                List<RawJobEvent> allResults = new ArrayList<>();
                 List<String> skills = request.getSkills() != null ? request.getSkills() : Collections.emptyList();
+                List<ScrapeParameters> queries = new ArrayList<>();
 
                 if (skills.isEmpty()) {
                     log.warn("No skills provided, performing general search");
-                    ScrapeParameters params = ScrapeParameters.withAuth(
+                    queries.add(ScrapeParameters.withAuth(
                             request.getMaxJobAgeDays(),
                             request.getMaxResults(),
                             null,
                             request.getLocation(),
-                            request.getAuthCookie());
-                    List<RawJobEvent> results = linkedInScraper.scrapeJobs(params);
-                    publishJobsToKafka(results);
-                    return;
+                            request.getAuthCookie()));
                 }
-
                 for (String skill : skills) {
-                    try {
-                        log.info("Scraping for skill: {}", skill);
-                        ScrapeParameters params = ScrapeParameters.withAuth(
-                                request.getMaxJobAgeDays(),
-                                request.getMaxResults(),
-                                skill.trim(),
-                                request.getLocation(),
-                                request.getAuthCookie());
-
-                        List<RawJobEvent> results = linkedInScraper.scrapeJobs(params);
-                        allResults.addAll(results);
-
-                        // Add delay between skills to avoid rate limiting
-                        if (skills.indexOf(skill) < skills.size() - 1) {
-                            Thread.sleep(5000);
-                        }
-                    } catch (Exception e) {
-                        log.error("Error scraping for skill: {}", skill, e);
-                    }
+                    queries.add(ScrapeParameters.withAuth(
+                            request.getMaxJobAgeDays(),
+                            request.getMaxResults(),
+                            skill.trim(),
+                            request.getLocation(),
+                            request.getAuthCookie()));
                 }
 
-                // Publish all scraped jobs to Kafka for downstream processing
-                publishJobsToKafka(allResults);
-                log.info("Completed multi-skill scraping. Total jobs found: {}", allResults.size());
+                // Publish each job to Kafka for downstream processing as soon as it is scraped
+                int published = scrapeExecutor.scrapeAll(linkedInScraper, queries, rawJobProducer::publishRawJob);
+                log.info("Completed multi-skill scraping. Total jobs published: {}", published);
 
             } catch (Exception e) {
                 log.error("Error in async scraping process", e);
@@ -110,16 +98,6 @@ public class ScraperController {
         return "{\"status\": \"Scraping started\", \"message\": \"Jobs will be processed in background.\"}";
     }
 
-    /**
-     * Publish scraped jobs to Kafka for storage and processing
-     */
-    private void publishJobsToKafka(List<RawJobEvent> jobs) {
-        for (RawJobEvent job : jobs) {
-            rawJobProducer.publishRawJob(job);
-        }
-        log.info("Published {} jobs to Kafka", jobs.size());
-    }
-
     /**
      * Health check
      */
@@ -1,6 +1,7 @@
 package com.jobcompass.scraper.kafka;
 
 import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.util.JobKeys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -8,7 +9,9 @@ import org.springframework.stereotype.Service;
 
 /**
  * Kafka producer for publishing raw job events.
- * 
+ * Messages are keyed by job identity ({@link JobKeys}) so jobs spread across
+ * partitions while updates to the same job stay ordered on one partition.
+ *
  * @author Palraj Jayaraj
  */
 @Service
@@ -16,7 +19,7 @@ public class RawJobProducer {
 
     private static final Logger log = LoggerFactory.getLogger(RawJobProducer.class);
     private static final String TOPIC = "raw-jobs";
-    
+
     private final KafkaTemplate<String, RawJobEvent> kafkaTemplate;
 
     public RawJobProducer(KafkaTemplate<String, RawJobEvent> kafkaTemplate) {
@@ -28,7 +31,7 @@ public class RawJobProducer {
      */
     public void publishRawJob(RawJobEvent job) {
         try {
-            kafkaTemplate.send(TOPIC, job.getSource().name(), job);
+            kafkaTemplate.send(TOPIC, JobKeys.of(job), job);
             log.debug("Published job to Kafka: {} - {}", job.getCompany(), job.getTitle());
         } catch (Exception e) {
             log.error("Failed to publish job to Kafka: {}", e.getMessage(), e);
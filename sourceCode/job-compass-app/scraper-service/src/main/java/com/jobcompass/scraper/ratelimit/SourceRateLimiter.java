@@ -0,0 +1,118 @@
+package com.jobcompass.scraper.ratelimit;
+
+import com.jobcompass.common.model.Source;
+import com.jobcompass.scraper.config.RateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces requests to each job source with a token bucket, shared by every
+ * scrape running against that source.
+ * A source allows its burst of requests back to back and then one request
+ * per configured interval. Callers reserve their request time under a short
+ * lock and sleep outside it until exactly that time, so the allowed rate is
+ * reached without idle gaps and concurrent callers never over-sleep.
+ * Time spent waiting is recorded per source in
+ * {@code jobcompass.scraper.rate-limit.wait}, and the requests currently
+ * available in {@code jobcompass.scraper.rate-limit.tokens}.
+ *
+ * @author Palraj Jayaraj
+ */
+@Component
+@Slf4j
+public class SourceRateLimiter {
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Limited> sources = new ConcurrentHashMap<>();
+
+    public SourceRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Wait until a request to the source may be made.
+     *
+     * @param source the source about to be requested
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire(Source source) throws InterruptedException {
+        Limited limited = sources.computeIfAbsent(source.name().toLowerCase(Locale.ROOT), key -> limit(source));
+        long waitNanos = limited.bucket().reserve(System.nanoTime());
+        limited.waits().record(waitNanos, TimeUnit.NANOSECONDS);
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    private Limited limit(Source source) {
+        RateLimitProperties.Limit override = properties.getRateLimits().entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(source.name()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(new RateLimitProperties.Limit());
+        double seconds = override.getSeconds() != null ? override.getSeconds() : properties.getRateLimitSeconds();
+        int burst = override.getBurst() != null ? override.getBurst() : properties.getRateLimitBurst();
+        log.info("Rate limiting {} to one request per {}s with bursts of {}", source.name(), seconds, burst);
+
+        TokenBucket bucket = new TokenBucket((long) (seconds * 1_000_000_000L), burst, System.nanoTime());
+        Gauge.builder("jobcompass.scraper.rate-limit.tokens", bucket, b -> b.available(System.nanoTime()))
+                .description("Requests a source may receive right now without waiting")
+                .tag("source", source.name())
+                .register(meterRegistry);
+        Timer waits = Timer.builder("jobcompass.scraper.rate-limit.wait")
+                .description("Time scrapes waited for the rate limit before requesting a source")
+                .tag("source", source.name())
+                .register(meterRegistry);
+        return new Limited(bucket, waits);
+    }
+
+    private record Limited(TokenBucket bucket, Timer waits) {
+    }
+
+    /**
+     * Token bucket kept as the time the next request would go out at the
+     * steady rate: a request may go once that time is less than a burst of
+     * intervals ahead of now.
+     */
+    static final class TokenBucket {
+
+        private final long intervalNanos;
+        private final int burst;
+        private final long toleranceNanos;
+        private long nextArrival;
+
+        TokenBucket(long intervalNanos, int burst, long now) {
+            this.intervalNanos = intervalNanos;
+            this.burst = Math.max(1, burst);
+            this.toleranceNanos = (this.burst - 1) * intervalNanos;
+            this.nextArrival = now;
+        }
+
+        /**
+         * Reserve the next request.
+         *
+         * @param now the current time in nanoseconds
+         * @return nanoseconds to wait before making the request
+         */
+        synchronized long reserve(long now) {
+            long arrival = Math.max(nextArrival, now);
+            nextArrival = arrival + intervalNanos;
+            return Math.max(0, arrival - toleranceNanos - now);
+        }
+
+        synchronized double available(long now) {
+            if (intervalNanos == 0) {
+                return burst;
+            }
+            return Math.max(0, Math.min(burst, burst - (double) (nextArrival - now) / intervalNanos));
+        }
+    }
+}
@@ -1,19 +1,22 @@
 package com.jobcompass.scraper.scheduler;
 
 import com.jobcompass.common.model.ScrapeParameters;
+import com.jobcompass.scraper.kafka.RawJobProducer;
 import com.jobcompass.scraper.scrapers.LinkedInScraper;
+import com.jobcompass.scraper.service.ScrapeExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Scheduled task to trigger job scraping automatically.
- * Runs daily at a configured time.
+ * Runs daily at a configured time, scraping the configured skills
+ * concurrently and publishing each job to Kafka as it is found.
  * 
  * @author Palrajjayaraj
  */
@@ -23,6 +26,8 @@ import java.util.List;
 public class ScheduledScraper {
 
     private final LinkedInScraper linkedInScraper;
+    private final ScrapeExecutor scrapeExecutor;
+    private final RawJobProducer rawJobProducer;
 
     @Value("${app.scheduler.skills:Java, Spring Boot, GenAI, microservices, AI, ML}")
     private String defaultSkills;
@@ -42,26 +47,17 @@ public class ScheduledScraper {
     public void runDailyScrape() {
         log.info("Starting scheduled daily scrape for skills: {}", defaultSkills);
 
-        List<String> skills = Arrays.asList(defaultSkills.split(","));
-
-        for (String skill : skills) {
-            try {
-                log.info("Triggering scrape for skill: {}", skill.trim());
-                ScrapeParameters params = ScrapeParameters.withFilters(
-                        maxJobAgeDays,
-                        maxResults, // Configurable max results
-                        skill.trim(),
-                        null);
-
-                linkedInScraper.scrapeJobs(params);
-
-                // Pause between skills to avoid rate limiting
-                Thread.sleep(10000);
-            } catch (Exception e) {
-                log.error("Error during scheduled scrape for skill: {}", skill, e);
-            }
+        List<ScrapeParameters> queries = new ArrayList<>();
+        for (String skill : defaultSkills.split(",")) {
+            queries.add(ScrapeParameters.withFilters(
+                    maxJobAgeDays,
+                    maxResults, // Configurable max results
+                    skill.trim(),
+                    null));
         }
 
-        log.info("Completed scheduled daily scrape");
+        int published = scrapeExecutor.scrapeAll(linkedInScraper, queries, rawJobProducer::publishRawJob);
+
+        log.info("Completed scheduled daily scrape, published {} jobs", published);
     }
 }
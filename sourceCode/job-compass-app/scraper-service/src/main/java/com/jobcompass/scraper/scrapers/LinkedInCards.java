@@ -0,0 +1,162 @@
+package com.jobcompass.scraper.scrapers;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads job cards off a LinkedIn search results page.
+ * The selectors are defined here once and used by both ways of reading:
+ * {@link #read(Page)} runs a single script in the page that returns every
+ * card, one browser round trip per page; {@link #read(Locator)} reads one
+ * card through Playwright locators, about ten round trips per card, and is
+ * the fallback when the script fails.
+ *
+ * @author Palraj Jayaraj
+ */
+final class LinkedInCards {
+
+    static final String CARD = "div.base-card";
+    static final String LIST_ITEM = "ul.jobs-search__results-list li"; // Guest view list
+    static final String TITLE = "h3.base-search-card__title";
+    static final String COMPANY = "h4.base-search-card__subtitle";
+    static final String LOCATION = "span.job-search-card__location";
+    static final String LINK = "a.base-card__full-link";
+    static final String SNIPPET = "p.base-search-card__snippet";
+    static final String INFO = "div.base-search-card__info";
+    static final String TIME = "time";
+
+    static final String DEFAULT_POSTED_DATE = "Recently";
+
+    private static final Map<String, String> SELECTORS = Map.of(
+            "card", CARD, "listItem", LIST_ITEM, "title", TITLE, "company", COMPANY, "location", LOCATION,
+            "link", LINK, "snippet", SNIPPET, "info", INFO, "time", TIME);
+
+    /**
+     * Same reading as {@link #read(Locator)}; visible means what it means to
+     * Playwright: a non-empty bounding box and no visibility:hidden.
+     */
+    static final String SCRIPT = """
+            s => {
+              const text = el => el ? el.innerText.trim() : null;
+              const visible = el => {
+                const box = el.getBoundingClientRect();
+                return box.width > 0 && box.height > 0 && getComputedStyle(el).visibility !== 'hidden';
+              };
+              let cards = document.querySelectorAll(s.card);
+              if (cards.length === 0) {
+                cards = document.querySelectorAll(s.listItem);
+              }
+              return Array.from(cards, card => {
+                const link = card.querySelector(s.link);
+                const snippet = card.querySelector(s.snippet);
+                const info = card.querySelector(s.info);
+                const time = card.querySelector(s.time);
+                return {
+                  title: text(card.querySelector(s.title)),
+                  company: text(card.querySelector(s.company)),
+                  location: text(card.querySelector(s.location)),
+                  href: link ? link.getAttribute('href') : null,
+                  description: snippet && visible(snippet) ? text(snippet) : info && visible(info) ? text(info) : '',
+                  postedDate: time ? (time.getAttribute('datetime') ?? text(time)) : null
+                };
+              });
+            }
+            """;
+
+    private LinkedInCards() {
+    }
+
+    /**
+     * A job card's fields as shown on the page.
+     * Href is the card link as is, with tracking parameters.
+     */
+    record Card(String title, String company, String location, String href, String description, String postedDate) {
+    }
+
+    /**
+     * Read all cards on the page in one round trip.
+     *
+     * @return the complete cards, in page order; cards missing a title,
+     *         company, location or link are left out
+     * @throws PlaywrightException when the script fails in the page
+     */
+    static List<Card> read(Page page) {
+        Object result = page.evaluate(SCRIPT, SELECTORS);
+        if (!(result instanceof List<?> rows)) {
+            throw new PlaywrightException("Card script returned " + result);
+        }
+        List<Card> cards = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            if (row instanceof Map<?, ?> fields) {
+                Card card = card(fields);
+                if (card != null) {
+                    cards.add(card);
+                }
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * Locate the cards on the page, for reading them one by one.
+     *
+     * @return the card locator, the list item locator when the page has no cards
+     */
+    static Locator locate(Page page) {
+        Locator cards = page.locator(CARD);
+        return cards.count() > 0 ? cards : page.locator(LIST_ITEM);
+    }
+
+    /**
+     * Read one card through locators.
+     *
+     * @throws PlaywrightException when a title, company, location or link is missing
+     */
+    static Card read(Locator card) {
+        // Use .first() to handle cases where multiple elements match (though usually one per card)
+        String title = card.locator(TITLE).first().innerText().trim();
+        String company = card.locator(COMPANY).first().innerText().trim();
+        String location = card.locator(LOCATION).first().innerText().trim();
+        String href = card.locator(LINK).first().getAttribute("href");
+
+        String description = "";
+        if (card.locator(SNIPPET).count() > 0 && card.locator(SNIPPET).first().isVisible()) {
+            description = card.locator(SNIPPET).first().innerText().trim();
+        } else if (card.locator(INFO).count() > 0 && card.locator(INFO).first().isVisible()) {
+            description = card.locator(INFO).first().innerText().trim();
+        }
+
+        String postedDate = DEFAULT_POSTED_DATE;
+        Locator time = card.locator(TIME);
+        if (time.count() > 0) {
+            postedDate = time.first().getAttribute("datetime");
+            if (postedDate == null) {
+                postedDate = time.first().innerText().trim();
+            }
+        }
+        return new Card(title, company, location, href, description, postedDate);
+    }
+
+    private static Card card(Map<?, ?> fields) {
+        String title = string(fields, "title");
+        String company = string(fields, "company");
+        String location = string(fields, "location");
+        String href = string(fields, "href");
+        if (title == null || company == null || location == null || href == null) {
+            return null;
+        }
+        String description = string(fields, "description");
+        String postedDate = string(fields, "postedDate");
+        return new Card(title, company, location, href, description != null ? description : "",
+                postedDate != null ? postedDate : DEFAULT_POSTED_DATE);
+    }
+
+    private static String string(Map<?, ?> fields, String name) {
+        return fields.get(name) instanceof String value ? value : null;
+    }
+}
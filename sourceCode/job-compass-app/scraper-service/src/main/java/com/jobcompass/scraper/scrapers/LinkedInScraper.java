@@ -4,8 +4,12 @@ import com.jobcompass.common.events.RawJobEvent;
 import com.jobcompass.common.model.ScrapeParameters;
 import com.jobcompass.common.model.Source;
 import com.jobcompass.common.scraper.JobScraper;
+import com.jobcompass.common.util.JobUrls;
+import com.jobcompass.scraper.browser.BrowserPool;
+import com.jobcompass.scraper.browser.ResourceBlocker;
 import com.jobcompass.scraper.config.SeleniumProperties;
 import com.jobcompass.scraper.filter.LanguageFilter;
+import com.jobcompass.scraper.ratelimit.SourceRateLimiter;
 import com.microsoft.playwright.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,11 +19,18 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * LinkedIn job scraper using Microsoft Playwright.
  * Replaces legacy Selenium implementation for better bot evasion and
  * performance.
+ * Each scrape runs in its own BrowserContext on a browser from the
+ * {@link BrowserPool}, so several searches can run at once; every request
+ * to LinkedIn, page load or scroll, is paced by the {@link SourceRateLimiter}.
+ * Images, fonts, media and trackers are not downloaded, see {@link ResourceBlocker}.
+ * Jobs are handed on card by card through {@link #scrapeJobs(ScrapeParameters, Consumer)}.
  *
  * @author Palraj Jayaraj
  */
@@ -28,15 +39,22 @@ public class LinkedInScraper implements JobScraper {
 
     private static final Logger log = LoggerFactory.getLogger(LinkedInScraper.class);
     private static final Source SOURCE = Source.of("LinkedIn");
+    private static final int MAX_SCROLLS = 5;
+    private static final double SCROLL_TIMEOUT_MS = 3000;
 
-    private final Browser browser;
+    private final BrowserPool browserPool;
     private final SeleniumProperties properties; // Reusing props for user agents
     private final LanguageFilter languageFilter;
+    private final SourceRateLimiter rateLimiter;
+    private final ResourceBlocker resourceBlocker;
 
-    public LinkedInScraper(Browser browser, SeleniumProperties properties, LanguageFilter languageFilter) {
-        this.browser = browser;
+    public LinkedInScraper(BrowserPool browserPool, SeleniumProperties properties, LanguageFilter languageFilter,
+            SourceRateLimiter rateLimiter, ResourceBlocker resourceBlocker) {
+        this.browserPool = browserPool;
         this.properties = properties;
         this.languageFilter = languageFilter;
+        this.rateLimiter = rateLimiter;
+        this.resourceBlocker = resourceBlocker;
     }
 
     @Override
@@ -47,6 +65,20 @@ public class LinkedInScraper implements JobScraper {
     @Override
     public List<RawJobEvent> scrapeJobs(ScrapeParameters parameters) {
         List<RawJobEvent> jobs = new ArrayList<>();
+        scrapeJobs(parameters, jobs::add);
+        return jobs;
+    }
+
+    /**
+     * Scrape jobs, handing each to the sink as soon as its card is read.
+     */
+    @Override
+    public int scrapeJobs(ScrapeParameters parameters, Consumer<RawJobEvent> sink) {
+        return browserPool.withBrowser(browser -> scrapeJobs(browser, parameters, sink));
+    }
+
+    private int scrapeJobs(Browser browser, ScrapeParameters parameters, Consumer<RawJobEvent> sink) {
+        int count = 0;
 
         if (properties.getUserAgents() == null || properties.getUserAgents().isEmpty()) {
             log.warn("No User-Agents configured, using default");
@@ -64,6 +96,7 @@ public class LinkedInScraper implements JobScraper {
         log.info("Starting scrape with User-Agent: {}", userAgent);
 
         try (BrowserContext context = browser.newContext(contextOptions)) {
+            resourceBlocker.install(context);
 
             // Inject authentication cookie if provided
             if (parameters.authCookie() != null && !parameters.authCookie().isEmpty()) {
@@ -81,6 +114,7 @@ public class LinkedInScraper implements JobScraper {
             log.info("Scraping LinkedIn jobs from: {}", searchUrl);
 
             // Navigate and wait for content
+            rateLimiter.acquire(SOURCE);
             page.navigate(searchUrl, new Page.NavigateOptions().setTimeout(60000));
 
             // Wait for job cards to appear - robust wait
@@ -95,54 +129,55 @@ public class LinkedInScraper implements JobScraper {
             // Scroll to load lazy content
             scrollToBottom(page);
 
-            // Find all job cards using Playwright Locator
-            Locator jobCards = page.locator("div.base-card");
-            int cardCount = jobCards.count();
-
-            if (cardCount == 0) {
-                // Fallback selector for some LinkedIn views (e.g. guest view list)
-                jobCards = page.locator("ul.jobs-search__results-list li");
-                cardCount = jobCards.count();
+            // Read all cards in one round trip, one by one if the page script fails
+            List<LinkedInCards.Card> cards = null;
+            try {
+                long start = System.nanoTime();
+                cards = LinkedInCards.read(page);
+                log.info("Found {} job cards on LinkedIn, read in {} ms", cards.size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (PlaywrightException e) {
+                log.warn("Card script failed, reading cards one by one: {}", e.getMessage());
             }
 
-            log.info("Found {} job cards on LinkedIn", cardCount);
-
-            int count = 0;
-            for (int i = 0; i < cardCount; i++) {
-                if (count >= parameters.maxResults()) {
-                    break;
-                }
-
-                try {
-                    // Get handle to the nth card
-                    Locator card = jobCards.nth(i);
-                    RawJobEvent job = extractJobFromCard(card);
-                    if (job != null) {
-                        jobs.add(job);
+            if (cards != null) {
+                for (int i = 0; i < cards.size() && count < parameters.maxResults(); i++) {
+                    if (emitJob(cards.get(i), sink)) {
                         count++;
                     }
-                } catch (Exception e) {
-                    log.warn("Failed to extract job from card index {}: {}", i, e.getMessage());
                 }
+            } else {
+                count = readCardsOneByOne(page, parameters, sink);
             }
 
-            log.info("Successfully scraped {} jobs from LinkedIn via Playwright", jobs.size());
+            log.info("Successfully scraped {} jobs from LinkedIn via Playwright", count);
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting to scrape LinkedIn");
         } catch (Exception e) {
             log.error("Error scraping LinkedIn with Playwright: {}", e.getMessage(), e);
         }
 
-        return jobs;
+        return count;
     }
 
-    private void scrollToBottom(Page page) {
+    /**
+     * Scroll to load lazy content. Each scroll fetches more cards, so it is
+     * paced like a page load; scrolling stops once a scroll loads nothing new.
+     */
+    private void scrollToBottom(Page page) throws InterruptedException {
         try {
-            // Scroll down a bit to trigger lazy loading
-            for (int i = 0; i < 5; i++) {
-                page.evaluate("window.scrollBy(0, window.innerHeight)");
-                page.waitForTimeout(1000);
+            for (int i = 0; i < MAX_SCROLLS; i++) {
+                rateLimiter.acquire(SOURCE);
+                Object height = page.evaluate("document.body.scrollHeight");
+                page.evaluate("window.scrollTo(0, document.body.scrollHeight)");
+                page.waitForFunction("h => document.body.scrollHeight > h", height,
+                        new Page.WaitForFunctionOptions().setTimeout(SCROLL_TIMEOUT_MS));
             }
-        } catch (Exception e) {
+        } catch (TimeoutError e) {
+            log.debug("No more content after scrolling");
+        } catch (PlaywrightException e) {
             log.debug("Error during scroll: {}", e.getMessage());
         }
     }
@@ -169,59 +204,50 @@ public class LinkedInScraper implements JobScraper {
     }
 
     /**
-     * Extract job details from a LinkedIn job card locator
+     * Read cards through Playwright locators, the fallback for the page script
      */
-    private RawJobEvent extractJobFromCard(Locator card) {
-        try {
-            // Use .first() to handle cases where multiple elements match (though usually
-            // one per card)
-            String title = card.locator("h3.base-search-card__title").first().innerText().trim();
-            String company = card.locator("h4.base-search-card__subtitle").first().innerText().trim();
-            String location = card.locator("span.job-search-card__location").first().innerText().trim();
-            String url = card.locator("a.base-card__full-link").first().getAttribute("href");
-
-            // Extract snippet
-            String description = "";
-            if (card.locator("p.base-search-card__snippet").count() > 0
-                    && card.locator("p.base-search-card__snippet").first().isVisible()) {
-                description = card.locator("p.base-search-card__snippet").first().innerText().trim();
-            } else if (card.locator("div.base-search-card__info").count() > 0
-                    && card.locator("div.base-search-card__info").first().isVisible()) {
-                description = card.locator("div.base-search-card__info").first().innerText().trim();
-            }
-
-            // Posted date
-            String postedDate = "Recently";
-            Locator timeParams = card.locator("time");
-            if (timeParams.count() > 0) {
-                postedDate = timeParams.first().getAttribute("datetime");
-                if (postedDate == null) {
-                    postedDate = timeParams.first().innerText().trim();
-                }
-            }
+    private int readCardsOneByOne(Page page, ScrapeParameters parameters, Consumer<RawJobEvent> sink) {
+        Locator jobCards = LinkedInCards.locate(page);
+        int cardCount = jobCards.count();
+        log.info("Found {} job cards on LinkedIn", cardCount);
 
-            // Language filtering
-            if (!description.isEmpty()) {
-                if (!languageFilter.validateJobDescription(description)) {
-                    log.info("Filtered non-English job description for: '{}'", title);
-                    return null;
+        int count = 0;
+        for (int i = 0; i < cardCount && count < parameters.maxResults(); i++) {
+            try {
+                if (emitJob(LinkedInCards.read(jobCards.nth(i)), sink)) {
+                    count++;
                 }
+            } catch (Exception e) {
+                log.warn("Failed to extract job from card index {}: {}", i, e.getMessage());
             }
+        }
+        return count;
+    }
 
-            return RawJobEvent.builder()
-                    .source(SOURCE)
-                    .title(title)
-                    .company(company)
-                    .location(location)
-                    .description(description)
-                    .url(url)
-                    .postedDate(postedDate)
-                    .scrapedAt(LocalDateTime.now())
-                    .build();
-
-        } catch (Exception e) {
-            // log.debug("Could not parse card: {}", e.getMessage());
-            return null;
+    /**
+     * Hand the job of a card to the sink unless its description is not in English
+     *
+     * @return whether the job was handed over
+     */
+    private boolean emitJob(LinkedInCards.Card card, Consumer<RawJobEvent> sink) {
+        // Language filtering
+        if (!card.description().isEmpty() && !languageFilter.validateJobDescription(card.description())) {
+            log.info("Filtered non-English job description for: '{}'", card.title());
+            return false;
         }
+
+        sink.accept(RawJobEvent.builder()
+                .source(SOURCE)
+                .title(card.title())
+                .company(card.company())
+                .location(card.location())
+                .description(card.description())
+                // Card hrefs carry per-session tracking parameters; keep only the job id
+                .url(JobUrls.canonicalize(card.href()))
+                .externalId(JobUrls.externalId(card.href()))
+                .postedDate(card.postedDate())
+                .scrapedAt(LocalDateTime.now())
+                .build());
+        return true;
     }
 }
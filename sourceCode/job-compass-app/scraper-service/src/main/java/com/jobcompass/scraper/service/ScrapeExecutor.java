@@ -0,0 +1,67 @@
+package com.jobcompass.scraper.service;
+
+import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.model.ScrapeParameters;
+import com.jobcompass.common.scraper.JobScraper;
+import com.jobcompass.scraper.browser.BrowserPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Runs several searches of one scraper concurrently, one per browser in the
+ * {@link BrowserPool}; further searches queue until a browser is free.
+ * A failed search is logged and contributes no further jobs, the others still complete.
+ *
+ * @author Palraj Jayaraj
+ */
+@Service
+@Slf4j
+public class ScrapeExecutor {
+
+    private final BrowserPool browserPool;
+
+    public ScrapeExecutor(BrowserPool browserPool) {
+        this.browserPool = browserPool;
+    }
+
+    /**
+     * Run searches concurrently and wait for all of them.
+     * Jobs are handed to the sink as they are scraped, from the browser
+     * worker threads, so the sink must be thread-safe.
+     *
+     * @param scraper the scraper to run
+     * @param queries the searches, e.g. one per skill
+     * @param sink    receives each job found
+     * @return the number of jobs found
+     */
+    public int scrapeAll(JobScraper scraper, List<ScrapeParameters> queries, Consumer<RawJobEvent> sink) {
+        long start = System.currentTimeMillis();
+        List<CompletableFuture<Integer>> searches = new ArrayList<>();
+        for (ScrapeParameters query : queries) {
+            searches.add(browserPool.submit(() -> scrape(scraper, query, sink)));
+        }
+
+        int jobs = 0;
+        for (CompletableFuture<Integer> search : searches) {
+            jobs += search.join();
+        }
+        log.info("Scraped {} jobs for {} {} searches in {} ms on {} browsers", jobs, queries.size(),
+                scraper.getSource().name(), System.currentTimeMillis() - start, browserPool.size());
+        return jobs;
+    }
+
+    private static int scrape(JobScraper scraper, ScrapeParameters query, Consumer<RawJobEvent> sink) {
+        try {
+            log.info("Scraping {} for skill: {}", scraper.getSource().name(), query.skill());
+            return scraper.scrapeJobs(query, sink);
+        } catch (Exception e) {
+            log.error("Error scraping {} for skill: {}", scraper.getSource().name(), query.skill(), e);
+            return 0;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.jobcompass.scraper.service;
 
-import com.jobcompass.common.events.RawJobEvent;
 import com.jobcompass.common.model.ScrapeParameters;
 import com.jobcompass.common.scraper.JobScraper;
 import com.jobcompass.scraper.kafka.RawJobProducer;
@@ -14,6 +13,8 @@ import java.util.List;
 /**
  * Orchestrates job scraping across all configured scrapers.
  * Manages scraping execution and publishes results to Kafka.
+ * Sources are not paced here: each scraper paces its own requests through
+ * the per-source rate limiter.
  * 
  * @author Palraj Jayaraj
  */
@@ -37,9 +38,6 @@ public class ScraperOrchestrator {
     @Value("${jobcompass.scraper.default-location:}")
     private String defaultLocation;
 
-    @Value("${jobcompass.scraper.rate-limit-between-sources-ms:2000}")
-    private long rateLimitBetweenSourcesMs;
-
     public ScraperOrchestrator(List<JobScraper> scrapers, RawJobProducer rawJobProducer) {
         this.scrapers = scrapers;
         this.rawJobProducer = rawJobProducer;
@@ -78,19 +76,12 @@ public class ScraperOrchestrator {
             
             try {
                 log.info("Scraping from: {}", scraper.getSource().name());
-                List<RawJobEvent> jobs = scraper.scrapeJobs(parameters);
-                
-                // Publish each job to Kafka
-                for (RawJobEvent job : jobs) {
-                    rawJobProducer.publishRawJob(job);
-                }
-                
-                totalJobs += jobs.size();
-                log.info("Scraped {} jobs from {}", jobs.size(), scraper.getSource().name());
-                
-                // Rate limiting between sources - now configurable
-                Thread.sleep(rateLimitBetweenSourcesMs);
+                // Publish each job to Kafka as soon as it is scraped
+                int jobs = scraper.scrapeJobs(parameters, rawJobProducer::publishRawJob);
                 
+                totalJobs += jobs;
+                log.info("Scraped {} jobs from {}", jobs, scraper.getSource().name());
+
             } catch (Exception e) {
                 log.error("Error scraping from {}: {}", scraper.getSource().name(), e.getMessage(), e);
             }
@@ -0,0 +1,94 @@
+package com.jobcompass.scraper.browser;
+
+import com.jobcompass.scraper.config.ResourceBlockingProperties;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ResourceBlocker.
+ *
+ * @author Palraj Jayaraj
+ */
+class ResourceBlockerTest {
+
+    private ResourceBlockingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ResourceBlocker blocker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResourceBlockingProperties();
+        properties.setBlockedDomains(List.of("google-analytics.com", "doubleclick.net"));
+        properties.setAllowedDomains(List.of("static.licdn.com"));
+        properties.setTypicalSizes(Map.of("image", DataSize.ofKilobytes(20)));
+        meterRegistry = new SimpleMeterRegistry();
+        blocker = new ResourceBlocker(properties, meterRegistry);
+    }
+
+    @Test
+    void testBlocks_TypesAndDomainsWithAllowEntriesWinning() {
+        assertTrue(blocker.blocks("image", "media.licdn.com"));
+        assertTrue(blocker.blocks("font", "fonts.gstatic.com"));
+        assertTrue(blocker.blocks("script", "www.google-analytics.com"));
+        assertTrue(blocker.blocks("xhr", "doubleclick.net"));
+        assertFalse(blocker.blocks("script", "notdoubleclick.net"));
+        assertFalse(blocker.blocks("stylesheet", "www.linkedin.com"));
+        assertFalse(blocker.blocks("image", "static.licdn.com"));
+        assertFalse(blocker.blocks("document", "ad.doubleclick.net"));
+        assertFalse(blocker.blocks("xhr", null));
+    }
+
+    @Test
+    void testHandle_AbortsBlockedAndCountsEstimatedBytes() {
+        Route image = route("image", "https://media.licdn.com/dms/image/logo.png");
+        Route other = route("other", "https://px.doubleclick.net/pixel");
+        Route script = route("script", "https://www.linkedin.com/app.js");
+
+        blocker.handle(image);
+        blocker.handle(other);
+        blocker.handle(script);
+
+        verify(image).abort("blockedbyclient");
+        verify(other).abort("blockedbyclient");
+        verify(script).resume();
+        verify(script, never()).abort(anyString());
+        assertEquals(1.0, meterRegistry.get("jobcompass.scraper.resources.blocked").tag("type", "image").counter().count());
+        assertEquals(20 * 1024.0, meterRegistry.get("jobcompass.scraper.resources.bytes-saved")
+                .tag("type", "image").counter().count());
+        assertEquals(5 * 1024.0, meterRegistry.get("jobcompass.scraper.resources.bytes-saved")
+                .tag("type", "other").counter().count());
+    }
+
+    @Test
+    void testInstall_DisabledLeavesContextUnrouted() {
+        properties.setEnabled(false);
+        BrowserContext context = mock(BrowserContext.class);
+
+        blocker.install(context);
+
+        verify(context, never()).route(anyString(), any());
+        verify(context, never()).onRequestFinished(any());
+    }
+
+    private static Route route(String type, String url) {
+        Request request = mock(Request.class);
+        when(request.resourceType()).thenReturn(type);
+        when(request.url()).thenReturn(url);
+        Route route = mock(Route.class);
+        when(route.request()).thenReturn(request);
+        return route;
+    }
+}
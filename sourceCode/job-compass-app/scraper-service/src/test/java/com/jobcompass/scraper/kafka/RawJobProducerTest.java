@@ -0,0 +1,49 @@
+package com.jobcompass.scraper.kafka;
+
+import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.model.Source;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for RawJobProducer.
+ *
+ * @author Palraj Jayaraj
+ */
+class RawJobProducerTest {
+
+    private static final Source LINKEDIN = Source.of("LinkedIn");
+
+    @Mock
+    private KafkaTemplate<String, RawJobEvent> kafkaTemplate;
+
+    private RawJobProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        producer = new RawJobProducer(kafkaTemplate);
+    }
+
+    @Test
+    void testPublishRawJob_KeyedByLinkedInJobId() {
+        RawJobEvent job = job("https://de.linkedin.com/jobs/view/senior-java-developer-at-acme-3812345678?refId=abc&trackingId=xyz");
+
+        producer.publishRawJob(job);
+
+        verify(kafkaTemplate).send("raw-jobs", "LinkedIn:3812345678", job);
+    }
+
+    private RawJobEvent job(String url) {
+        return RawJobEvent.builder()
+                .source(LINKEDIN)
+                .title("Java Developer")
+                .url(url)
+                .build();
+    }
+}
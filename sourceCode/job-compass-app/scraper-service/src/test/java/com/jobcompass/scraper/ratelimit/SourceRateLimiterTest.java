@@ -0,0 +1,68 @@
+package com.jobcompass.scraper.ratelimit;
+
+import com.jobcompass.common.model.Source;
+import com.jobcompass.scraper.config.RateLimitProperties;
+import com.jobcompass.scraper.ratelimit.SourceRateLimiter.TokenBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SourceRateLimiter and its token bucket.
+ *
+ * @author Palraj Jayaraj
+ */
+class SourceRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testTokenBucket_BurstThenSteadyRate() {
+        TokenBucket bucket = new TokenBucket(SECOND, 3, 0);
+
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        // Burst used up: each further request gets the next interval, exactly
+        assertEquals(SECOND, bucket.reserve(0));
+        assertEquals(2 * SECOND, bucket.reserve(0));
+        assertEquals(0, bucket.available(0));
+    }
+
+    @Test
+    void testTokenBucket_RefillsWhileIdleUpToBurst() {
+        TokenBucket bucket = new TokenBucket(SECOND, 2, 0);
+        bucket.reserve(0);
+        bucket.reserve(0);
+
+        assertEquals(1.0, bucket.available(SECOND), 1e-9);
+        assertEquals(2.0, bucket.available(100 * SECOND), 1e-9);
+        assertEquals(0, bucket.reserve(100 * SECOND));
+        assertEquals(0, bucket.reserve(100 * SECOND));
+        assertEquals(SECOND, bucket.reserve(100 * SECOND));
+    }
+
+    @Test
+    void testAcquire_UsesSourceOverrideAndRecordsWaits() throws InterruptedException {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.Limit linkedIn = new RateLimitProperties.Limit();
+        linkedIn.setSeconds(0.05);
+        linkedIn.setBurst(1);
+        properties.setRateLimits(Map.of("LinkedIn", linkedIn));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SourceRateLimiter limiter = new SourceRateLimiter(properties, meterRegistry);
+
+        long start = System.nanoTime();
+        limiter.acquire(Source.of("LinkedIn"));
+        limiter.acquire(Source.of("linkedin"));
+        limiter.acquire(Source.of("LinkedIn"));
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(3, meterRegistry.get("jobcompass.scraper.rate-limit.wait").tag("source", "LinkedIn").timer().count());
+        assertTrue(meterRegistry.get("jobcompass.scraper.rate-limit.wait").timer().totalTime(TimeUnit.MILLISECONDS) >= 90);
+    }
+}
@@ -5,20 +5,36 @@ import com.jobcompass.common.model.ScrapeParameters;
 import com.jobcompass.common.model.Source;
 import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import com.jobcompass.scraper.browser.BrowserPool;
+import com.jobcompass.scraper.browser.ResourceBlocker;
+import com.jobcompass.scraper.config.RateLimitProperties;
+import com.jobcompass.scraper.config.ResourceBlockingProperties;
 import com.jobcompass.scraper.config.SeleniumProperties;
 import com.jobcompass.scraper.filter.LanguageFilter;
+import com.jobcompass.scraper.ratelimit.SourceRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -39,6 +55,7 @@ class LinkedInScraperTest {
     @Mock
     private LanguageFilter languageFilter;
 
+    private BrowserPool browserPool;
     private LinkedInScraper linkedInScraper;
 
     @BeforeEach
@@ -48,7 +65,21 @@ class LinkedInScraperTest {
         userAgents.add("test-agent");
         when(properties.getUserAgents()).thenReturn(userAgents);
 
-        linkedInScraper = new LinkedInScraper(browser, properties, languageFilter);
+        Playwright playwright = mock(Playwright.class, RETURNS_DEEP_STUBS);
+        when(playwright.chromium().launch(any())).thenReturn(browser);
+        when(browser.isConnected()).thenReturn(true);
+        browserPool = new BrowserPool(1, true, () -> playwright);
+
+        RateLimitProperties rateLimits = new RateLimitProperties();
+        rateLimits.setRateLimitSeconds(0);
+        linkedInScraper = new LinkedInScraper(browserPool, properties, languageFilter,
+                new SourceRateLimiter(rateLimits, new SimpleMeterRegistry()),
+                new ResourceBlocker(new ResourceBlockingProperties(), new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        browserPool.close();
     }
 
     @Test
@@ -81,4 +112,54 @@ class LinkedInScraperTest {
         assertNotNull(jobs);
         assertTrue(jobs.isEmpty()); // Expect empty since we didn't mock page content
     }
+
+    @Test
+    void testScrapeJobs_ReadsAllCardsInOneScript() {
+        Page page = newPage();
+        Map<String, Object> incomplete = new HashMap<>();
+        incomplete.put("title", null);
+        incomplete.put("company", "Acme");
+        incomplete.put("location", "Berlin");
+        incomplete.put("href", "https://www.linkedin.com/jobs/view/2");
+        when(page.evaluate(eq(LinkedInCards.SCRIPT), any())).thenReturn(List.of(
+                Map.of("title", "Java Developer", "company", "Acme", "location", "Berlin",
+                        "href", "https://de.linkedin.com/jobs/view/java-developer-at-acme-3812345678?trk=public_jobs",
+                        "description", "Build services in Java", "postedDate", "2024-05-01"),
+                incomplete,
+                Map.of("title", "Kotlin Developer", "company", "Beta", "location", "Munich",
+                        "href", "https://www.linkedin.com/jobs/view/3812345679", "description", "")));
+        when(languageFilter.validateJobDescription(anyString())).thenReturn(true);
+
+        List<RawJobEvent> jobs = linkedInScraper.scrapeJobs(ScrapeParameters.of(7, 20));
+
+        assertEquals(2, jobs.size());
+        assertEquals("Java Developer", jobs.get(0).getTitle());
+        assertEquals("https://www.linkedin.com/jobs/view/3812345678", jobs.get(0).getUrl());
+        assertEquals("3812345678", jobs.get(0).getExternalId());
+        assertEquals("2024-05-01", jobs.get(0).getPostedDate());
+        assertEquals("Recently", jobs.get(1).getPostedDate());
+    }
+
+    @Test
+    void testScrapeJobs_FallsBackToLocatorsWhenScriptFails() {
+        Page page = newPage();
+        when(page.evaluate(eq(LinkedInCards.SCRIPT), any())).thenThrow(new PlaywrightException("script failed"));
+        Locator cards = mock(Locator.class);
+        Locator listItems = mock(Locator.class);
+        when(page.locator(LinkedInCards.CARD)).thenReturn(cards);
+        when(page.locator(LinkedInCards.LIST_ITEM)).thenReturn(listItems);
+
+        List<RawJobEvent> jobs = linkedInScraper.scrapeJobs(ScrapeParameters.of(7, 20));
+
+        assertTrue(jobs.isEmpty());
+        verify(listItems).count();
+    }
+
+    private Page newPage() {
+        BrowserContext context = mock(BrowserContext.class);
+        Page page = mock(Page.class);
+        when(browser.newContext(any(Browser.NewContextOptions.class))).thenReturn(context);
+        when(context.newPage()).thenReturn(page);
+        return page;
+    }
 }
@@ -0,0 +1,155 @@
+package com.jobcompass.scraper.service;
+
+import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.model.ScrapeParameters;
+import com.jobcompass.common.model.Source;
+import com.jobcompass.common.scraper.JobScraper;
+import com.jobcompass.scraper.browser.BrowserPool;
+import com.microsoft.playwright.Playwright;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for ScrapeExecutor.
+ *
+ * @author Palraj Jayaraj
+ */
+class ScrapeExecutorTest {
+
+    private BrowserPool browserPool;
+    private ScrapeExecutor scrapeExecutor;
+
+    @BeforeEach
+    void setUp() {
+        browserPool = new BrowserPool(3, true, () -> mock(Playwright.class));
+        scrapeExecutor = new ScrapeExecutor(browserPool);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        browserPool.close();
+    }
+
+    @Test
+    void testScrapeAll_RunsSearchesConcurrently() {
+        // Each search only finishes once all three are running at the same time
+        CountDownLatch running = new CountDownLatch(3);
+        JobScraper scraper = scraper(query -> {
+            running.countDown();
+            if (!running.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Searches did not run concurrently");
+            }
+            return List.of(job(query.skill()));
+        });
+
+        Queue<RawJobEvent> jobs = new ConcurrentLinkedQueue<>();
+
+        assertEquals(3, scrapeExecutor.scrapeAll(scraper, queries("Java", "Kafka", "GenAI"), jobs::add));
+        assertEquals(Set.of("Java", "Kafka", "GenAI"), titles(jobs));
+    }
+
+    @Test
+    void testScrapeAll_FailedSearchDoesNotFailTheOthers() {
+        JobScraper scraper = scraper(query -> {
+            if (query.skill().equals("Kafka")) {
+                throw new IllegalStateException("Blocked");
+            }
+            return List.of(job(query.skill()));
+        });
+
+        Queue<RawJobEvent> jobs = new ConcurrentLinkedQueue<>();
+
+        assertEquals(2, scrapeExecutor.scrapeAll(scraper, queries("Java", "Kafka", "GenAI"), jobs::add));
+        assertEquals(Set.of("Java", "GenAI"), titles(jobs));
+    }
+
+    @Test
+    void testScrapeAll_HandsOnJobsWhileSearchesRun() {
+        // The search only finishes once its first job has reached the sink
+        CountDownLatch received = new CountDownLatch(1);
+        JobScraper scraper = new JobScraper() {
+            @Override
+            public Source getSource() {
+                return Source.of("Test");
+            }
+
+            @Override
+            public List<RawJobEvent> scrapeJobs(ScrapeParameters parameters) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int scrapeJobs(ScrapeParameters parameters, Consumer<RawJobEvent> sink) {
+                sink.accept(job("first"));
+                try {
+                    if (!received.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("First job was not handed on");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                sink.accept(job("second"));
+                return 2;
+            }
+        };
+        Queue<RawJobEvent> jobs = new ConcurrentLinkedQueue<>();
+
+        int found = scrapeExecutor.scrapeAll(scraper, queries("Java"), job -> {
+            jobs.add(job);
+            received.countDown();
+        });
+
+        assertEquals(2, found);
+        assertEquals(Set.of("first", "second"), titles(jobs));
+    }
+
+    private static Set<String> titles(Queue<RawJobEvent> jobs) {
+        return jobs.stream().map(RawJobEvent::getTitle).collect(Collectors.toSet());
+    }
+
+    private static List<ScrapeParameters> queries(String... skills) {
+        return Arrays.stream(skills).map(skill -> ScrapeParameters.withFilters(1, 10, skill, null)).toList();
+    }
+
+    private static RawJobEvent job(String title) {
+        return RawJobEvent.builder().title(title).url("https://example.com/" + title).build();
+    }
+
+    private static JobScraper scraper(Search search) {
+        return new JobScraper() {
+            @Override
+            public Source getSource() {
+                return Source.of("Test");
+            }
+
+            @Override
+            public List<RawJobEvent> scrapeJobs(ScrapeParameters parameters) {
+                try {
+                    return search.run(parameters);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+
+    private interface Search {
+        List<RawJobEvent> run(ScrapeParameters query) throws InterruptedException;
+    }
+}
@@ -0,0 +1,89 @@
+package com.jobcompass.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Bounded in-process cache of company name to company ID.
+ * Repeat employers are resolved without touching the database on the ingest path.
+ * Entries are evicted by size (approximately least recently used) and by
+ * time since last access. Hit and miss counts are published as
+ * {@code cache.*} metrics with {@code cache=companyIds}.
+ *
+ * @author Palrajjayaraj
+ */
+@Component
+public class CompanyIdCache {
+
+    private final Cache<String, Long> cache;
+
+    public CompanyIdCache(
+            MeterRegistry meterRegistry,
+            @Value("${jobcompass.storage.cache.company.max-size:10000}") long maxSize,
+            @Value("${jobcompass.storage.cache.company.ttl:6h}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "companyIds");
+    }
+
+    /**
+     * Look up cached IDs.
+     *
+     * @param names the company names
+     * @return cached company ID by name; absent names are misses
+     */
+    public Map<String, Long> getAllPresent(Collection<String> names) {
+        return cache.getAllPresent(names);
+    }
+
+    /**
+     * Cache IDs of companies that already existed in the database.
+     *
+     * @param ids company ID by name
+     */
+    public void putAll(Map<String, Long> ids) {
+        cache.putAll(ids);
+    }
+
+    /**
+     * Cache IDs of companies inserted by the current transaction once it commits.
+     * A rolled back insert must never be served from the cache.
+     *
+     * @param ids company ID by name
+     */
+    public void putAllAfterCommit(Map<String, Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.putAll(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.putAll(ids);
+            }
+        });
+    }
+
+    /**
+     * Drop all cached entries.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,194 @@
+package com.jobcompass.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobcompass.storage.dto.JobDto;
+import com.jobcompass.storage.dto.JobPageDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache of assembled job list pages, keyed by the
+ * normalized query. Dashboard reads between ingest bursts are served from
+ * memory instead of running the page query and its skill and application
+ * count lookups again.
+ * <p>
+ * The cache is bounded by the estimated size of the cached pages in bytes
+ * and entries expire a fixed time after they are written. Any committed
+ * change to jobs or applications invalidates every page, because a new or
+ * updated job can enter the first page of any listing. Hit and miss counts
+ * are published as {@code cache.*} metrics with {@code cache=jobPages} and
+ * the estimated size as the {@code jobcompass.cache.job-pages.bytes} gauge.
+ *
+ * @author Palrajjayaraj
+ */
+@Component
+public class JobPageCache {
+
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int STRING_OVERHEAD = 40;
+    private static final int JOB_DTO_SIZE = 120;
+    private static final int SET_ENTRY_SIZE = 32;
+    private static final int DATE_SIZE = 24;
+
+    private final Cache<Key, JobPageDto> cache;
+
+    /**
+     * Bumped on every invalidation. Pages loaded under an older generation
+     * are stored under keys that are never looked up again, so a read that
+     * raced with an ingest cannot repopulate the cache with stale data.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public JobPageCache(
+            MeterRegistry meterRegistry,
+            @Value("${jobcompass.storage.cache.pages.max-size:64MB}") DataSize maxSize,
+            @Value("${jobcompass.storage.cache.pages.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher(JobPageCache::weigh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jobPages");
+        Gauge.builder("jobcompass.cache.job-pages.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("Estimated size of the job pages held in the page cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Return the cached page for a query, loading and caching it on a miss.
+     * Concurrent misses for the same query run the loader once.
+     *
+     * @param query  the normalized query, see {@link #key(String, Object...)}
+     * @param loader builds the page on a miss
+     * @return the page
+     */
+    public JobPageDto get(String query, Supplier<JobPageDto> loader) {
+        return cache.get(new Key(generation.get(), query), key -> loader.get());
+    }
+
+    /**
+     * Invalidate all pages once the current transaction commits, or
+     * immediately when no transaction is active. Invalidating before the
+     * commit would let a concurrent read cache the old rows again.
+     */
+    public void invalidateAllAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateAll();
+            }
+        });
+    }
+
+    /**
+     * Drop all cached pages.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Build a normalized query key so equivalent requests share an entry.
+     * Collections are sorted and de-duplicated, so skill sets given in any
+     * order map to one entry. Values are otherwise kept verbatim because
+     * skill names and cursors are case-sensitive and substring filters
+     * match whitespace. Each value is length-prefixed, so values containing
+     * the separator cannot collide.
+     *
+     * @param endpoint the listing name
+     * @param params   the query parameters in a fixed order
+     * @return the query key
+     */
+    public static String key(String endpoint, Object... params) {
+        StringBuilder key = new StringBuilder(endpoint);
+        for (Object param : params) {
+            key.append('|');
+            if (param instanceof Collection<?> values) {
+                TreeSet<String> sorted = new TreeSet<>();
+                values.forEach(value -> sorted.add(String.valueOf(value)));
+                key.append('[');
+                sorted.forEach(value -> append(key, value));
+                key.append(']');
+            } else if (param != null) {
+                append(key, param.toString());
+            }
+        }
+        return key.toString();
+    }
+
+    private static void append(StringBuilder key, String value) {
+        key.append(value.length()).append(':').append(value);
+    }
+
+    /**
+     * Estimate the retained size of a cached page in bytes.
+     *
+     * @param key  the cache key
+     * @param page the cached page
+     * @return the estimated size
+     */
+    static int weigh(Key key, JobPageDto page) {
+        long bytes = OBJECT_OVERHEAD + REFERENCE_SIZE + sizeOf(key.query()) + OBJECT_OVERHEAD + sizeOf(page.getNextCursor());
+        if (page.getItems() != null) {
+            bytes += OBJECT_OVERHEAD + (long) REFERENCE_SIZE * page.getItems().size();
+            for (JobDto job : page.getItems()) {
+                bytes += sizeOf(job);
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static long sizeOf(JobDto job) {
+        long bytes = JOB_DTO_SIZE
+                + sizeOf(job.getTitle())
+                + sizeOf(job.getDescription())
+                + sizeOf(job.getLocation())
+                + sizeOf(job.getSalaryRange())
+                + sizeOf(job.getUrl())
+                + sizeOf(job.getCompanyName())
+                + (job.getPostedDate() != null ? DATE_SIZE : 0)
+                + (job.getScrapedAt() != null ? 2 * DATE_SIZE : 0);
+        if (job.getSkills() != null) {
+            bytes += OBJECT_OVERHEAD;
+            for (String skill : job.getSkills()) {
+                bytes += SET_ENTRY_SIZE + sizeOf(skill);
+            }
+        }
+        return bytes;
+    }
+
+    private static long sizeOf(String value) {
+        return value == null ? 0 : STRING_OVERHEAD + value.length();
+    }
+
+    /**
+     * Cache key: the invalidation generation plus the normalized query.
+     *
+     * @param generation the generation the page was loaded under
+     * @param query      the normalized query
+     */
+    record Key(long generation, String query) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobcompass.storage.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory dictionary of known skill names to skill IDs.
+ * The skill vocabulary is small and only grows, so the dictionary is
+ * unbounded and preloaded at startup. It is used to skip the insert for
+ * skills that are already known; a name missing from the dictionary only
+ * costs a no-op {@code ON CONFLICT DO NOTHING}. The entry count is published
+ * as the {@code jobcompass.skills.dictionary.size} gauge. A version number
+ * is bumped whenever new names are added, so derived structures such as the
+ * skill matcher can tell when they are stale.
+ *
+ * @author Palrajjayaraj
+ */
+@Component
+public class SkillDictionary {
+
+    private final Map<String, Long> ids = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public SkillDictionary(MeterRegistry meterRegistry) {
+        Gauge.builder("jobcompass.skills.dictionary.size", ids, Map::size)
+                .description("Number of skill names held in the skill dictionary")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Find names that are not in the dictionary.
+     *
+     * @param names the skill names
+     * @return the unknown names
+     */
+    public Set<String> unknown(Collection<String> names) {
+        return names.stream()
+                .filter(name -> !ids.containsKey(name))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Look up the IDs of known names.
+     *
+     * @param names the skill names
+     * @return skill ID by name for the names in the dictionary
+     */
+    public Map<String, Long> idsOf(Collection<String> names) {
+        Map<String, Long> known = new HashMap<>();
+        for (String name : names) {
+            Long id = ids.get(name);
+            if (id != null) {
+                known.put(name, id);
+            }
+        }
+        return known;
+    }
+
+    /**
+     * Add skills that exist in the database.
+     *
+     * @param skillIds skill ID by name
+     */
+    public void putAll(Map<String, Long> skillIds) {
+        add(skillIds);
+    }
+
+    /**
+     * Add skills inserted by the current transaction once it commits.
+     * A rolled back insert must never be treated as a known skill.
+     *
+     * @param skillIds skill ID by name
+     */
+    public void putAllAfterCommit(Map<String, Long> skillIds) {
+        if (skillIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(skillIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(skillIds);
+            }
+        });
+    }
+
+    /**
+     * @return snapshot of the known skill names
+     */
+    public Set<String> names() {
+        return Set.copyOf(ids.keySet());
+    }
+
+    /**
+     * @return a number that changes whenever new names are added
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * @return number of known skills
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    private void add(Map<String, Long> skillIds) {
+        int before = ids.size();
+        ids.putAll(skillIds);
+        if (ids.size() != before) {
+            version.incrementAndGet();
+        }
+    }
+}
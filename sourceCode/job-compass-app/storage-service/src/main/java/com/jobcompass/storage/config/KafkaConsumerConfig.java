@@ -2,7 +2,13 @@ package com.jobcompass.storage.config;
 
 import com.jobcompass.common.events.ProcessedJobEvent;
 import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.storage.kafka.CheckpointInterceptor;
+import com.jobcompass.storage.kafka.IngestCheckpoints;
+import com.jobcompass.storage.kafka.ProcessedJobConsumer;
+import com.jobcompass.storage.kafka.RawJobConsumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -10,6 +16,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
@@ -19,6 +30,12 @@ import java.util.Map;
 /**
  * Configuration class for Kafka consumer.
  * Configures deserialization of RawJobEvent and ProcessedJobEvent messages.
+ * Offsets are committed by the listener containers once per poll, after the
+ * listener has returned, i.e. after the jobs of the poll are committed to
+ * the database or handed to a retry topic. A crash in between replays the
+ * poll, which the upserts absorb: delivery is at-least-once. A poll that
+ * keeps failing is parked on the retry topic, so it never stalls its
+ * partitions.
  * 
  * @author Palrajjayaraj
  */
@@ -31,6 +48,26 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${jobcompass.storage.ingest.raw-jobs.max-poll-records:500}")
+    private int rawJobMaxPollRecords;
+
+    @Value("${jobcompass.storage.ingest.raw-jobs.concurrency:3}")
+    private int rawJobConcurrency;
+
+    @Value("${jobcompass.storage.ingest.processed-jobs.max-poll-records:500}")
+    private int processedJobMaxPollRecords;
+
+    @Value("${jobcompass.storage.ingest.processed-jobs.concurrency:3}")
+    private int processedJobConcurrency;
+
+    private final IngestCheckpoints ingestCheckpoints;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    public KafkaConsumerConfig(IngestCheckpoints ingestCheckpoints, KafkaTemplate<String, Object> kafkaTemplate) {
+        this.ingestCheckpoints = ingestCheckpoints;
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
     /**
      * Create consumer configuration properties.
      * 
@@ -47,7 +84,10 @@ public class KafkaConsumerConfig {
         props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ProcessedJobEvent.class.getName());
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.jobcompass.common.events");
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, processedJobMaxPollRecords);
+        props.put(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, CheckpointInterceptor.class.getName());
+        props.put(CheckpointInterceptor.CHECKPOINTS_CONFIG, ingestCheckpoints);
         return props;
     }
 
@@ -63,6 +103,8 @@ public class KafkaConsumerConfig {
 
     /**
      * Create listener container factory for Kafka consumers.
+     * Delivers one record at a time; used for processed jobs that failed to
+     * save in their batch, so a failure only delays that record.
      * 
      * @return listener container factory
      */
@@ -70,6 +112,25 @@ public class KafkaConsumerConfig {
     public ConcurrentKafkaListenerContainerFactory<String, ProcessedJobEvent> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, ProcessedJobEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.getContainerProperties().setAckMode(AckMode.BATCH);
+        return factory;
+    }
+
+    /**
+     * Create listener container factory for processed job Kafka consumers.
+     * Delivers each poll as a List so jobs can be persisted in bulk, like
+     * {@link #rawJobKafkaListenerContainerFactory()}.
+     * 
+     * @return listener container factory for processed jobs
+     */
+    @Bean(name = "processedJobKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, ProcessedJobEvent> processedJobKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ProcessedJobEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(processedJobConcurrency);
+        factory.getContainerProperties().setAckMode(AckMode.BATCH);
+        factory.setCommonErrorHandler(batchErrorHandler(ProcessedJobConsumer.FAILED_TOPIC));
         return factory;
     }
 
@@ -89,12 +150,20 @@ public class KafkaConsumerConfig {
         props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, RawJobEvent.class.getName());
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.jobcompass.common.events");
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, rawJobMaxPollRecords);
+        props.put(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, CheckpointInterceptor.class.getName());
+        props.put(CheckpointInterceptor.CHECKPOINTS_CONFIG, ingestCheckpoints);
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
     /**
      * Create listener container factory for raw job Kafka consumers.
+     * Delivers each poll as a List so jobs can be persisted in bulk, with one
+     * consumer thread per configured unit of concurrency.
+     * A poll that cannot be completed, e.g. because failed jobs cannot be
+     * handed to the retry topic, is redelivered with a growing delay; its
+     * offsets are never committed before its jobs are saved or parked.
      * 
      * @return listener container factory for raw jobs
      */
@@ -102,6 +171,62 @@ public class KafkaConsumerConfig {
     public ConcurrentKafkaListenerContainerFactory<String, RawJobEvent> rawJobKafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, RawJobEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(rawJobConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(rawJobConcurrency);
+        factory.getContainerProperties().setAckMode(AckMode.BATCH);
+        factory.setCommonErrorHandler(batchErrorHandler(RawJobConsumer.FAILED_TOPIC));
+        return factory;
+    }
+
+    /**
+     * Redeliver a failed poll with a growing delay, 1s up to 32s apart; after
+     * the last attempt its records are published to the retry topic with
+     * their original key and value, and only then are its offsets committed.
+     * When that publish fails too, the poll is redelivered again.
+     *
+     * @param failedTopic the retry topic of the listener's events
+     */
+    private DefaultErrorHandler batchErrorHandler(String failedTopic) {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(6);
+        backOff.setInitialInterval(1000);
+        backOff.setMultiplier(2);
+        backOff.setMaxInterval(60000);
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, e) -> new TopicPartition(failedTopic, -1));
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+
+    /**
+     * Create listener container factory for raw jobs that failed to save in
+     * their batch. They are retried one record at a time, so a failure only
+     * delays that record.
+     *
+     * @return listener container factory for raw job retries
+     */
+    @Bean(name = "rawJobRetryKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, RawJobEvent> rawJobRetryKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, RawJobEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(rawJobConsumerFactory());
+        factory.getContainerProperties().setAckMode(AckMode.BATCH);
         return factory;
     }
+
+    /**
+     * Create consumer factory for reading dead-letter topics on replay.
+     * Values are kept as the bytes that were dead-lettered, and offsets are
+     * only committed once the records have been published again.
+     *
+     * @return consumer factory for dead letters
+     */
+    @Bean
+    public ConsumerFactory<String, byte[]> deadLetterConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId + "-dlt-replay");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
 }
@@ -0,0 +1,66 @@
+package com.jobcompass.storage.controller;
+
+import com.jobcompass.storage.kafka.DeadLetterReplayer;
+import com.jobcompass.storage.kafka.ProcessedJobConsumer;
+import com.jobcompass.storage.kafka.RawJobConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST controller for dead-lettered job events.
+ * Replays events that failed every save attempt back into ingestion.
+ *
+ * @author Palrajjayaraj
+ */
+@RestController
+@RequestMapping("/api/dead-letters")
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterController {
+
+    private final DeadLetterReplayer deadLetterReplayer;
+
+    @Value("${kafka.topics.processed-jobs:processed-jobs}")
+    private String processedJobsTopic;
+
+    /**
+     * Replay dead-lettered events of one ingest stream.
+     *
+     * @param stream the ingest stream: raw-jobs or processed-jobs
+     * @param limit maximum number of events to replay (optional)
+     * @return the dead-letter topic and the number of events replayed
+     */
+    @PostMapping("/{stream}/replay")
+    public ResponseEntity<Map<String, Object>> replay(
+        @PathVariable String stream,
+        @RequestParam(defaultValue = "10000") int limit
+    ) {
+        String targetTopic;
+        String deadLetterTopic;
+        switch (stream) {
+            case "raw-jobs" -> {
+                targetTopic = "raw-jobs";
+                deadLetterTopic = RawJobConsumer.DEAD_LETTER_TOPIC;
+            }
+            case "processed-jobs" -> {
+                targetTopic = processedJobsTopic;
+                deadLetterTopic = ProcessedJobConsumer.DEAD_LETTER_TOPIC;
+            }
+            default -> {
+                return ResponseEntity.notFound().build();
+            }
+        }
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Replaying up to {} dead letters from {}", limit, deadLetterTopic);
+        int replayed = deadLetterReplayer.replay(deadLetterTopic, targetTopic, limit);
+        return ResponseEntity.ok(Map.of("topic", deadLetterTopic, "replayed", replayed));
+    }
+}
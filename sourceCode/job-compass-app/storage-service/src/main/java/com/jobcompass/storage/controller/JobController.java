@@ -1,23 +1,38 @@
 package com.jobcompass.storage.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobcompass.common.model.Source;
+import com.jobcompass.storage.cache.JobPageCache;
+import com.jobcompass.storage.dto.InvalidCursorException;
+import com.jobcompass.storage.dto.JobCursor;
 import com.jobcompass.storage.dto.JobDto;
+import com.jobcompass.storage.dto.JobPageDto;
+import com.jobcompass.storage.dto.JobSearchCriteria;
+import com.jobcompass.storage.dto.JobSearchCursor;
+import com.jobcompass.storage.dto.JobSummary;
 import com.jobcompass.storage.entity.Job;
-import com.jobcompass.storage.entity.Skill;
 import com.jobcompass.storage.service.JobApplicationService;
 import com.jobcompass.storage.service.JobService;
+import com.jobcompass.storage.service.JobService.RankedJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * REST controller for Job-related operations.
  * Provides endpoints for job retrieval and search.
+ * List and search pages are served through the {@link JobPageCache}.
  * 
  * @author Palrajjayaraj
  */
@@ -27,21 +42,68 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JobController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final JobService jobService;
     private final JobApplicationService jobApplicationService;
+    private final ObjectMapper objectMapper;
+    private final JobPageCache jobPageCache;
+
+    @Value("${jobcompass.storage.api.page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${jobcompass.storage.api.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${jobcompass.storage.api.stream-chunk-size:500}")
+    private int streamChunkSize;
 
     /**
-     * Get all active jobs.
+     * Get active jobs, newest first, one page at a time.
      * 
-     * @return list of active jobs
+     * @param cursor continuation token from the previous page (optional)
+     * @param size page size (optional)
+     * @return one page of active jobs
      */
     @GetMapping
-    public ResponseEntity<List<JobDto>> getAllJobs() {
-        log.info("Fetching all active jobs");
-        List<Job> jobs = jobService.findAllActiveJobs();
-        return ResponseEntity.ok(jobs.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList()));
+    public ResponseEntity<JobPageDto> getAllJobs(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        log.info("Fetching active jobs page");
+        int pageSize = pageSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+        return ResponseEntity.ok(jobPageCache.get(JobPageCache.key("all", cursor, pageSize),
+            () -> toPage(jobService.findAllActiveJobs(after, pageSize + 1), pageSize)));
+    }
+
+    /**
+     * Stream all active jobs as newline-delimited JSON, newest first.
+     * Rows are read through a database cursor and written as they arrive,
+     * so memory use does not grow with the catalog.
+     * 
+     * @return NDJSON stream of active jobs
+     */
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllJobs() {
+        log.info("Streaming all active jobs");
+        StreamingResponseBody body = out -> {
+            long streamed = jobService.streamActiveJobs(streamChunkSize, jobs -> {
+                try {
+                    for (JobDto dto : convertToDtos(jobs)) {
+                        out.write(objectMapper.writeValueAsBytes(dto));
+                        out.write('\n');
+                    }
+                    out.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("Streamed {} active jobs", streamed);
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON))
+            .body(body);
     }
 
     /**
@@ -54,7 +116,7 @@ public class JobController {
     public ResponseEntity<JobDto> getJobById(@PathVariable Long id) {
         log.info("Fetching job with ID: {}", id);
         return jobService.findById(id)
-            .map(job -> ResponseEntity.ok(convertToDto(job)))
+            .map(job -> ResponseEntity.ok(convertToDtos(List.of(job)).get(0)))
             .orElse(ResponseEntity.notFound().build());
     }
 
@@ -62,92 +124,274 @@ public class JobController {
      * Get recent jobs posted within the last N days.
      * 
      * @param days number of days (default: 7)
-     * @return list of recent jobs
+     * @param cursor continuation token from the previous page (optional)
+     * @param size page size (optional)
+     * @return one page of recent jobs
      */
     @GetMapping("/recent")
-    public ResponseEntity<List<JobDto>> getRecentJobs(
-        @RequestParam(defaultValue = "7") int days
+    public ResponseEntity<JobPageDto> getRecentJobs(
+        @RequestParam(defaultValue = "7") int days,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
     ) {
         log.info("Fetching jobs from last {} days", days);
-        List<Job> jobs = jobService.findRecentJobs(days);
-        return ResponseEntity.ok(jobs.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList()));
+        int pageSize = pageSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+        return ResponseEntity.ok(jobPageCache.get(JobPageCache.key("recent", days, cursor, pageSize),
+            () -> toPage(jobService.findRecentJobs(days, after, pageSize + 1), pageSize)));
+    }
+
+    /**
+     * Search jobs by any combination of criteria in one query.
+     * With {@code q}, results are full-text matches over title, company and
+     * description, best match first; without it, newest first.
+     * 
+     * @param q free-text query (optional); supports quoted phrases, "or" and -exclusions
+     * @param criteria source, location, companyName, skills and maxJobAgeDays filters (all optional)
+     * @param cursor continuation token from the previous page (optional)
+     * @param size page size (optional)
+     * @return one page of matching jobs
+     */
+    @GetMapping("/search")
+    public ResponseEntity<JobPageDto> search(
+        @RequestParam(required = false) String q,
+        @ModelAttribute JobSearchCriteria criteria,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        log.info("Searching jobs: q={}, criteria={}", q, criteria);
+        int pageSize = pageSize(size);
+        String key = JobPageCache.key("search", q, criteria.getSource(), criteria.getLocation(),
+            criteria.getCompanyName(), criteria.getSkills(), criteria.getMaxJobAgeDays(), cursor, pageSize);
+        if (q == null || q.isBlank()) {
+            JobCursor after = JobCursor.decode(cursor);
+            return ResponseEntity.ok(jobPageCache.get(key,
+                () -> toPage(jobService.searchJobs(criteria, after, pageSize + 1), pageSize)));
+        }
+        JobSearchCursor after = JobSearchCursor.decode(cursor);
+        return ResponseEntity.ok(jobPageCache.get(key,
+            () -> toRankedPage(jobService.searchJobs(q, criteria, after, pageSize + 1), pageSize)));
     }
 
     /**
      * Search jobs by skills.
      * 
      * @param skills comma-separated skill names
-     * @return list of jobs requiring the specified skills
+     * @param cursor continuation token from the previous page (optional)
+     * @param size page size (optional)
+     * @return one page of jobs requiring the specified skills
      */
     @GetMapping("/search/by-skills")
-    public ResponseEntity<List<JobDto>> searchBySkills(
-        @RequestParam Set<String> skills
+    public ResponseEntity<JobPageDto> searchBySkills(
+        @RequestParam Set<String> skills,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
     ) {
         log.info("Searching jobs by skills: {}", skills);
-        List<Job> jobs = jobService.findBySkills(skills);
-        return ResponseEntity.ok(jobs.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList()));
+        int pageSize = pageSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+        return ResponseEntity.ok(jobPageCache.get(JobPageCache.key("by-skills", skills, cursor, pageSize),
+            () -> toPage(jobService.findBySkills(skills, after, pageSize + 1), pageSize)));
     }
 
     /**
      * Search jobs by location.
      * 
      * @param location the location keyword
-     * @return list of jobs matching the location
+     * @param cursor continuation token from the previous page (optional)
+     * @param size page size (optional)
+     * @return one page of jobs matching the location
      */
     @GetMapping("/search/by-location")
-    public ResponseEntity<List<JobDto>> searchByLocation(
-        @RequestParam String location
+    public ResponseEntity<JobPageDto> searchByLocation(
+        @RequestParam String location,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
     ) {
         log.info("Searching jobs by location: {}", location);
-        List<Job> jobs = jobService.findByLocation(location);
-        return ResponseEntity.ok(jobs.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList()));
+        int pageSize = pageSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+        return ResponseEntity.ok(jobPageCache.get(JobPageCache.key("by-location", location, cursor, pageSize),
+            () -> toPage(jobService.findByLocation(location, after, pageSize + 1), pageSize)));
     }
 
     /**
      * Search jobs by company name.
      * 
      * @param companyName the company name keyword
-     * @return list of jobs from matching companies
+     * @param cursor continuation token from the previous page (optional)
+     * @param size page size (optional)
+     * @return one page of jobs from matching companies
      */
     @GetMapping("/search/by-company")
-    public ResponseEntity<List<JobDto>> searchByCompany(
-        @RequestParam String companyName
+    public ResponseEntity<JobPageDto> searchByCompany(
+        @RequestParam String companyName,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
     ) {
         log.info("Searching jobs by company: {}", companyName);
-        List<Job> jobs = jobService.findByCompanyName(companyName);
-        return ResponseEntity.ok(jobs.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList()));
+        int pageSize = pageSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+        return ResponseEntity.ok(jobPageCache.get(JobPageCache.key("by-company", companyName, cursor, pageSize),
+            () -> toPage(jobService.findByCompanyName(companyName, after, pageSize + 1), pageSize)));
     }
 
     /**
      * Get jobs by source.
      * 
      * @param source the job source
-     * @return list of jobs from the source
+     * @param cursor continuation token from the previous page (optional)
+     * @param size page size (optional)
+     * @return one page of jobs from the source
      */
     @GetMapping("/source/{source}")
-    public ResponseEntity<List<JobDto>> getJobsBySource(@PathVariable Source source) {
+    public ResponseEntity<JobPageDto> getJobsBySource(
+        @PathVariable Source source,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
         log.info("Fetching jobs from source: {}", source);
-        List<Job> jobs = jobService.findBySource(source);
-        return ResponseEntity.ok(jobs.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList()));
+        int pageSize = pageSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+        return ResponseEntity.ok(jobPageCache.get(JobPageCache.key("source", source, cursor, pageSize),
+            () -> toPage(jobService.findBySource(source, after, pageSize + 1), pageSize)));
+    }
+
+    /**
+     * Reject malformed continuation tokens.
+     * 
+     * @param e the exception
+     * @return bad request
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursor(InvalidCursorException e) {
+        log.warn("Rejected request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body("Invalid cursor");
+    }
+
+    /**
+     * Resolve the requested page size against the configured default and maximum.
+     * 
+     * @param size the requested page size, may be null
+     * @return the effective page size
+     */
+    private int pageSize(Integer size) {
+        if (size == null || size < 1) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Build a page from a query that fetched one job more than the page size.
+     * The extra job only signals that another page exists.
+     * 
+     * @param jobs the jobs, at most pageSize + 1
+     * @param pageSize the page size
+     * @return the page with a continuation token when more jobs exist
+     */
+    private JobPageDto toPage(List<JobSummary> jobs, int pageSize) {
+        boolean hasMore = jobs.size() > pageSize;
+        List<JobSummary> items = hasMore ? jobs.subList(0, pageSize) : jobs;
+        String nextCursor = null;
+        if (hasMore) {
+            JobSummary last = items.get(items.size() - 1);
+            nextCursor = new JobCursor(last.postedDate(), last.id()).encode();
+        }
+        return JobPageDto.builder()
+            .items(convertSummariesToDtos(items))
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * Build a page of ranked search results from a query that fetched one
+     * result more than the page size.
+     * 
+     * @param results the ranked results, at most pageSize + 1
+     * @param pageSize the page size
+     * @return the page with a continuation token when more results exist
+     */
+    private JobPageDto toRankedPage(List<RankedJob> results, int pageSize) {
+        boolean hasMore = results.size() > pageSize;
+        List<RankedJob> items = hasMore ? results.subList(0, pageSize) : results;
+        String nextCursor = null;
+        if (hasMore) {
+            RankedJob last = items.get(items.size() - 1);
+            nextCursor = new JobSearchCursor(last.rank(), last.job().id()).encode();
+        }
+        return JobPageDto.builder()
+            .items(convertSummariesToDtos(items.stream().map(RankedJob::job).collect(Collectors.toList())))
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * Convert job summaries to card JobDtos without descriptions.
+     * Skill names and application counts are fetched with one grouped query
+     * each for the whole list and merged in memory.
+     * 
+     * @param jobs the job summaries
+     * @return the job DTOs in the same order
+     */
+    private List<JobDto> convertSummariesToDtos(List<JobSummary> jobs) {
+        if (jobs.isEmpty()) {
+            return List.of();
+        }
+        List<Long> jobIds = jobs.stream().map(JobSummary::id).collect(Collectors.toList());
+        Map<Long, Set<String>> skillNames = jobService.findSkillNamesByJobIds(jobIds);
+        Map<Long, Long> applicationCounts = jobApplicationService.countApplicationsForJobs(jobIds);
+
+        return jobs.stream()
+            .map(job -> JobDto.builder()
+                .id(job.id())
+                .title(job.title())
+                .companyName(job.companyName())
+                .location(job.location())
+                .salaryRange(job.salaryRange())
+                .url(job.url())
+                .postedDate(job.postedDate())
+                .jobAgeDays(job.jobAgeDays())
+                .source(job.source())
+                .skills(skillNames.getOrDefault(job.id(), Set.of()))
+                .applicationCount(applicationCounts.getOrDefault(job.id(), 0L))
+                .isActive(true)
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Convert Job entities to JobDtos.
+     * Skill names and application counts are fetched with one grouped query
+     * each for the whole list and merged in memory.
+     * 
+     * @param jobs the job entities
+     * @return the job DTOs in the same order
+     */
+    private List<JobDto> convertToDtos(List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return List.of();
+        }
+        List<Long> jobIds = jobs.stream().map(Job::getId).collect(Collectors.toList());
+        Map<Long, Set<String>> skillNames = jobService.findSkillNamesByJobIds(jobIds);
+        Map<Long, Long> applicationCounts = jobApplicationService.countApplicationsForJobs(jobIds);
+
+        return jobs.stream()
+            .map(job -> convertToDto(job,
+                skillNames.getOrDefault(job.getId(), Set.of()),
+                applicationCounts.getOrDefault(job.getId(), 0L)))
+            .collect(Collectors.toList());
     }
 
     /**
      * Convert Job entity to JobDto.
      * 
      * @param job the job entity
+     * @param skills the job's skill names
+     * @param applicationCount the number of applications for the job
      * @return the job DTO
      */
-    private JobDto convertToDto(Job job) {
+    private JobDto convertToDto(Job job, Set<String> skills, long applicationCount) {
         return JobDto.builder()
             .id(job.getId())
             .title(job.getTitle())
@@ -160,8 +404,8 @@ public class JobController {
             .source(job.getSource())
             .scrapedAt(job.getScrapedAt())
             .companyName(job.getCompany() != null ? job.getCompany().getName() : null)
-            .skills(job.getSkills().stream().map(Skill::getName).collect(Collectors.toSet()))
-            .applicationCount(jobApplicationService.countApplicationsForJob(job.getId()))
+            .skills(skills)
+            .applicationCount(applicationCount)
             .isActive(job.getIsActive())
             .build();
     }
@@ -0,0 +1,14 @@
+package com.jobcompass.storage.dto;
+
+/**
+ * Thrown when a client sends a continuation token that was not issued by
+ * {@link JobCursor#encode()} or {@link JobSearchCursor#encode()}.
+ *
+ * @author Palrajjayaraj
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String token, Throwable cause) {
+        super("Invalid cursor: " + token, cause);
+    }
+}
@@ -0,0 +1,49 @@
+package com.jobcompass.storage.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Keyset position in a job listing sorted by posted date and ID, both descending.
+ * Clients receive it as an opaque continuation token and send it back
+ * unchanged to fetch the next page.
+ *
+ * @param postedDate posted date of the last job on the previous page
+ * @param id         ID of the last job on the previous page
+ * @author Palrajjayaraj
+ */
+public record JobCursor(LocalDate postedDate, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encode this cursor as a URL-safe token.
+     *
+     * @return the continuation token
+     */
+    public String encode() {
+        String raw = postedDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a continuation token.
+     *
+     * @param token the token, may be null or blank for the first page
+     * @return the cursor, or null for the first page
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static JobCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new JobCursor(LocalDate.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(token, e);
+        }
+    }
+}
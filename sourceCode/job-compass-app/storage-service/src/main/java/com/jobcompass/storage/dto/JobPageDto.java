@@ -0,0 +1,27 @@
+package com.jobcompass.storage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated job listing.
+ * 
+ * @author Palrajjayaraj
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPageDto {
+
+    private List<JobDto> items;
+
+    /**
+     * Token for the next page, or null when this is the last page.
+     */
+    private String nextCursor;
+}
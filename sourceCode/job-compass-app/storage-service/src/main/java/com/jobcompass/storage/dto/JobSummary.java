@@ -0,0 +1,33 @@
+package com.jobcompass.storage.dto;
+
+import com.jobcompass.common.model.Source;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of the job card fields shown in list responses.
+ * Selected column by column so listings never read the description TEXT
+ * column or load managed Job entities.
+ *
+ * @param id          the job ID
+ * @param title       the job title
+ * @param companyName the company name, null when unknown
+ * @param location    the job location
+ * @param salaryRange the salary range
+ * @param url         the posting URL
+ * @param postedDate  the posted date
+ * @param jobAgeDays  the job age in days
+ * @param source      the job source
+ * @author Palrajjayaraj
+ */
+public record JobSummary(
+        Long id,
+        String title,
+        String companyName,
+        String location,
+        String salaryRange,
+        String url,
+        LocalDate postedDate,
+        Integer jobAgeDays,
+        Source source) {
+}
@@ -21,7 +21,6 @@ import java.util.List;
  */
 @Entity
 @Table(name = "companies", indexes = {
-    @Index(name = "idx_company_name", columnList = "name"),
     @Index(name = "idx_company_industry", columnList = "industry")
 })
 @EntityListeners(AuditingEntityListener.class)
@@ -32,7 +31,8 @@ import java.util.List;
 public class Company {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "companies_id_seq")
+    @SequenceGenerator(name = "companies_id_seq", sequenceName = "companies_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, unique = true, length = 255)
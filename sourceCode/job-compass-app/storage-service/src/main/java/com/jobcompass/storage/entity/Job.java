@@ -25,14 +25,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "jobs", indexes = {
-    @Index(name = "idx_job_url", columnList = "url", unique = true),
-    @Index(name = "idx_job_external_id", columnList = "external_id"),
+    @Index(name = "idx_job_url", columnList = "url"),
     @Index(name = "idx_job_source", columnList = "source"),
     @Index(name = "idx_job_posted_date", columnList = "posted_date"),
     @Index(name = "idx_job_company_id", columnList = "company_id"),
-    @Index(name = "idx_job_source_external", columnList = "source, external_id"),
-    @Index(name = "idx_job_is_active", columnList = "is_active"),
-    @Index(name = "idx_job_location", columnList = "location")
+    @Index(name = "idx_job_source_external", columnList = "source, external_id", unique = true),
+    @Index(name = "idx_job_active_posted_id", columnList = "posted_date DESC, id DESC"),
+    @Index(name = "idx_job_source_active_posted_id", columnList = "source, posted_date DESC, id DESC")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Data
@@ -42,9 +41,14 @@ import java.util.Set;
 public class Job {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_id_seq")
+    @SequenceGenerator(name = "jobs_id_seq", sequenceName = "jobs_id_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Identity of the posting within its source: the site's job id, or a
+     * hash of the canonical URL. Null only for rows ingested before it existed.
+     */
     @Column(name = "external_id", length = 255)
     private String externalId;
 
@@ -60,10 +64,10 @@ public class Job {
     @Column(name = "salary_range", length = 100)
     private String salaryRange;
 
-    @Column(name = "url", nullable = false, unique = true, length = 1000)
+    @Column(name = "url", nullable = false, length = 1000)
     private String url;
 
-    @Column(name = "posted_date")
+    @Column(name = "posted_date", nullable = false)
     private LocalDate postedDate;
 
     @Column(name = "job_age_days")
@@ -75,6 +79,18 @@ public class Job {
     @Column(name = "scraped_at", nullable = false)
     private LocalDateTime scrapedAt;
 
+    /**
+     * SHA-256 of the normalized scraped content; null until first hashed.
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * When ingest last received this posting, whether or not it changed.
+     */
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id")
     private Company company;
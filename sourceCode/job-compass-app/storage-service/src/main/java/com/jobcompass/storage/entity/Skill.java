@@ -32,7 +32,8 @@ import java.util.Set;
 public class Skill {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skills_id_seq")
+    @SequenceGenerator(name = "skills_id_seq", sequenceName = "skills_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, unique = true, length = 100)
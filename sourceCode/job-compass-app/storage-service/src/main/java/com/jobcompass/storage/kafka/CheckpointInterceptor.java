@@ -0,0 +1,44 @@
+package com.jobcompass.storage.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerInterceptor;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Map;
+
+/**
+ * Consumer interceptor reporting successful offset commits to
+ * {@link IngestCheckpoints}.
+ * Kafka creates the interceptor itself; the checkpoints bean is passed in
+ * through the consumer properties under {@link #CHECKPOINTS_CONFIG}.
+ *
+ * @author Palrajjayaraj
+ */
+public class CheckpointInterceptor implements ConsumerInterceptor<Object, Object> {
+
+    public static final String CHECKPOINTS_CONFIG = "jobcompass.ingest.checkpoints";
+
+    private IngestCheckpoints checkpoints;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        this.checkpoints = (IngestCheckpoints) configs.get(CHECKPOINTS_CONFIG);
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> onConsume(ConsumerRecords<Object, Object> records) {
+        return records;
+    }
+
+    @Override
+    public void onCommit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        if (checkpoints != null) {
+            checkpoints.committed(offsets);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+}
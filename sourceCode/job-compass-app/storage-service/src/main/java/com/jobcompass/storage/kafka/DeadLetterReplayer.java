@@ -0,0 +1,108 @@
+package com.jobcompass.storage.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Moves dead-lettered events back onto the topic they are ingested from,
+ * once whatever made them fail has been fixed.
+ * Records are read in bulk from where the previous replay stopped up to the
+ * end of the dead-letter topic as it was when the replay started, published
+ * again with their original key and bytes, and only then marked as replayed.
+ * Retry headers are not carried over, so a replayed event gets the full
+ * retry budget again.
+ *
+ * @author Palrajjayaraj
+ */
+@Component
+@Slf4j
+public class DeadLetterReplayer {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final ConsumerFactory<String, byte[]> deadLetterConsumerFactory;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final Duration timeout;
+
+    public DeadLetterReplayer(ConsumerFactory<String, byte[]> deadLetterConsumerFactory,
+                              KafkaTemplate<String, Object> kafkaTemplate,
+                              @Value("${jobcompass.storage.ingest.replay-timeout:60s}") Duration timeout) {
+        this.deadLetterConsumerFactory = deadLetterConsumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Publish dead-lettered records to a topic again.
+     *
+     * @param deadLetterTopic the dead-letter topic to read
+     * @param targetTopic     the topic to publish to
+     * @param limit           the maximum number of records to replay
+     * @return the number of records replayed
+     */
+    public synchronized int replay(String deadLetterTopic, String targetTopic, int limit) {
+        try (Consumer<String, byte[]> consumer = deadLetterConsumerFactory.createConsumer()) {
+            List<TopicPartition> partitions = new ArrayList<>();
+            for (PartitionInfo partition : consumer.partitionsFor(deadLetterTopic)) {
+                partitions.add(new TopicPartition(deadLetterTopic, partition.partition()));
+            }
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+            List<TopicPartition> pending = new ArrayList<>();
+            for (TopicPartition partition : partitions) {
+                OffsetAndMetadata offset = committed.get(partition);
+                if ((offset != null ? offset.offset() : 0) < endOffsets.get(partition)) {
+                    pending.add(partition);
+                }
+            }
+            consumer.assign(pending);
+            for (TopicPartition partition : pending) {
+                OffsetAndMetadata offset = committed.get(partition);
+                if (offset != null) {
+                    consumer.seek(partition, offset);
+                } else {
+                    consumer.seekToBeginning(List.of(partition));
+                }
+            }
+
+            List<CompletableFuture<?>> sends = new ArrayList<>();
+            Map<TopicPartition, OffsetAndMetadata> replayedUpTo = new HashMap<>();
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (!pending.isEmpty() && sends.size() < limit && System.nanoTime() < deadline) {
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (sends.size() >= limit || record.offset() >= endOffsets.get(partition)) {
+                        continue;
+                    }
+                    if (record.value() != null) {
+                        sends.add(kafkaTemplate.send(targetTopic, record.key(), record.value()));
+                    }
+                    replayedUpTo.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                }
+                pending.removeIf(partition -> consumer.position(partition) >= endOffsets.get(partition));
+            }
+
+            kafkaTemplate.flush();
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+            consumer.commitSync(replayedUpTo);
+            log.info("Replayed {} records from {} to {}", sends.size(), deadLetterTopic, targetTopic);
+            return sends.size();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.jobcompass.storage.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics for the consumer offsets storage has committed.
+ * Offsets are committed once per poll, after the jobs of that poll are in
+ * the database, so the committed offset is the point ingestion resumes
+ * from after a crash or rebalance.
+ * Publishes the committed offset per partition
+ * ({@code jobcompass.ingest.checkpoint.offset}) and the number of commits
+ * per topic ({@code jobcompass.ingest.checkpoints}).
+ *
+ * @author Palrajjayaraj
+ */
+@Component
+public class IngestCheckpoints {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TopicPartition, AtomicLong> offsets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> commits = new ConcurrentHashMap<>();
+
+    public IngestCheckpoints(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Record committed offsets.
+     *
+     * @param committed the offsets committed, by partition
+     */
+    public void committed(Map<TopicPartition, OffsetAndMetadata> committed) {
+        committed.forEach((partition, offset) -> offsets.computeIfAbsent(partition, this::register).set(offset.offset()));
+        committed.keySet().stream()
+                .map(TopicPartition::topic)
+                .distinct()
+                .forEach(topic -> commits.computeIfAbsent(topic, t -> Counter.builder("jobcompass.ingest.checkpoints")
+                        .description("Offset commits after a poll was persisted")
+                        .tag("topic", t)
+                        .register(meterRegistry)).increment());
+    }
+
+    private AtomicLong register(TopicPartition partition) {
+        AtomicLong offset = new AtomicLong(-1);
+        Gauge.builder("jobcompass.ingest.checkpoint.offset", offset, AtomicLong::get)
+                .description("Last committed consumer offset, the next record ingestion resumes from")
+                .tag("topic", partition.topic())
+                .tag("partition", String.valueOf(partition.partition()))
+                .register(meterRegistry);
+        return offset;
+    }
+}
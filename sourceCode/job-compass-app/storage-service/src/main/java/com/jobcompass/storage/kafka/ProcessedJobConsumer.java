@@ -1,57 +1,153 @@
 package com.jobcompass.storage.kafka;
 
 import com.jobcompass.common.events.ProcessedJobEvent;
+import com.jobcompass.common.util.JobKeys;
 import com.jobcompass.storage.entity.Job;
 import com.jobcompass.storage.service.JobService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Kafka consumer for ProcessedJobEvent messages.
- * Listens to the processed-jobs topic and persists jobs to the database.
- * 
+ * Listens to the processed-jobs topic in batch mode and persists jobs to the
+ * database. Active only when storage ingests processed jobs
+ * ({@code jobcompass.storage.ingest.topic=processed-jobs}), i.e. when
+ * processor-service is deployed; {@link RawJobConsumer} is off then, so
+ * every job has a single write path.
+ * Events that still fail on their own are handed to {@value #FAILED_TOPIC}
+ * and retried there one at a time after a growing delay
+ * (processed-jobs-failed-retry-0, -1, ...); after the last attempt they are
+ * parked on {@value #DEAD_LETTER_TOPIC} for replay. Records that cannot be
+ * deserialized are parked there right away.
+ *
  * @author Palrajjayaraj
  */
 @Component
+@ConditionalOnProperty(name = "jobcompass.storage.ingest.topic", havingValue = "processed-jobs")
 @RequiredArgsConstructor
 @Slf4j
 public class ProcessedJobConsumer {
 
+    public static final String FAILED_TOPIC = "processed-jobs-failed";
+    public static final String DEAD_LETTER_TOPIC = FAILED_TOPIC + "-dlt";
+
     private final JobService jobService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * Consume ProcessedJobEvent messages from Kafka.
-     * Saves or updates jobs in the database.
-     * 
-     * @param event the processed job event
-     * @param partition the Kafka partition
-     * @param offset the message offset
+     * Consume a batch of ProcessedJobEvent messages from Kafka.
+     * The whole batch is upserted at once; if that fails, the events are
+     * saved one by one and the ones that fail again are sent to the retry
+     * stream, keyed like on processed-jobs so retries of one job stay in
+     * order. Records that could not be deserialized are parked on the
+     * dead-letter topic as their original bytes. The batch completes only
+     * when those events are safely on Kafka.
+     *
+     * @param records the processed job event records
      */
     @KafkaListener(
         topics = "${kafka.topics.processed-jobs:processed-jobs}",
         groupId = "${spring.kafka.consumer.group-id}",
+        containerFactory = "processedJobKafkaListenerContainerFactory"
+    )
+    public void consume(List<ConsumerRecord<String, ProcessedJobEvent>> records) {
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+        List<ProcessedJobEvent> events = new ArrayList<>(records.size());
+        List<CompletableFuture<?>> handedOver = new ArrayList<>();
+        for (ConsumerRecord<String, ProcessedJobEvent> record : records) {
+            if (record.value() != null) {
+                events.add(record.value());
+            } else {
+                CompletableFuture<?> parked = UnreadableRecords.park(record, DEAD_LETTER_TOPIC, kafkaTemplate, meterRegistry);
+                if (parked != null) {
+                    handedOver.add(parked);
+                }
+            }
+        }
+        log.info("Received batch of {} ProcessedJobEvents", events.size());
+
+        if (!events.isEmpty()) {
+            try {
+                int saved = jobService.saveProcessedJobs(events);
+                log.info("Successfully saved batch: {} jobs", saved);
+            } catch (Exception e) {
+                log.error("Failed to save batch of {} processed jobs, falling back to single saves", events.size(), e);
+                for (ProcessedJobEvent event : events) {
+                    if (!saveSingle(event)) {
+                        handedOver.add(kafkaTemplate.send(FAILED_TOPIC, JobKeys.of(event), event));
+                    }
+                }
+            }
+        }
+        CompletableFuture.allOf(handedOver.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * Consume a processed job that failed in its batch.
+     * Failures are rethrown to be retried.
+     *
+     * @param event the processed job event
+     */
+    @RetryableTopic(
+        attempts = "${jobcompass.storage.ingest.retry.attempts:4}",
+        backoff = @Backoff(
+            delayExpression = "${jobcompass.storage.ingest.retry.delay-ms:2000}",
+            multiplierExpression = "${jobcompass.storage.ingest.retry.multiplier:5}",
+            maxDelayExpression = "${jobcompass.storage.ingest.retry.max-delay-ms:300000}"
+        ),
+        topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+        kafkaTemplate = "kafkaTemplate"
+    )
+    @KafkaListener(
+        topics = FAILED_TOPIC,
+        groupId = "${spring.kafka.consumer.group-id}",
         containerFactory = "kafkaListenerContainerFactory"
     )
-    public void consume(
-        @Payload ProcessedJobEvent event,
-        @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-        @Header(KafkaHeaders.OFFSET) long offset
-    ) {
-        log.info("Received ProcessedJobEvent from partition {} offset {}: {} at {}", 
-            partition, offset, event.getTitle(), event.getCompany());
+    public void retry(@Payload ProcessedJobEvent event) {
+        Job savedJob = jobService.saveOrUpdateJob(event);
+        log.info("Successfully saved job on retry: {} (ID: {})", savedJob.getTitle(), savedJob.getId());
+    }
+
+    /**
+     * Record an event that failed every attempt.
+     *
+     * @param event the processed job event
+     * @param topic the dead-letter topic
+     */
+    @DltHandler
+    public void deadLetter(@Payload ProcessedJobEvent event, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        log.error("Giving up on processed job {} ({}), parked on {}", event.getTitle(), event.getUrl(), topic);
+        meterRegistry.counter("jobcompass.ingest.dead-letters", "topic", topic).increment();
+    }
 
+    private boolean saveSingle(ProcessedJobEvent event) {
         try {
             Job savedJob = jobService.saveOrUpdateJob(event);
             log.info("Successfully saved job: {} (ID: {})", savedJob.getTitle(), savedJob.getId());
+            return true;
         } catch (Exception e) {
-            log.error("Failed to save job from event: {}", event, e);
-            // TODO: Implement Dead Letter Queue (DLQ) for failed messages
-            // For now, log the error and continue processing
+            log.warn("Failed to save job {}, handing it to {}: {}", event.getUrl(), FAILED_TOPIC, e.getMessage());
+            return false;
         }
     }
 }
@@ -1,52 +1,143 @@
 package com.jobcompass.storage.kafka;
 
 import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.util.JobKeys;
 import com.jobcompass.storage.entity.Job;
 import com.jobcompass.storage.service.JobService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Kafka consumer for RawJobEvent messages.
- * Listens to the raw-jobs topic and persists jobs to the database.
- * 
+ * Listens to the raw-jobs topic in batch mode and persists jobs to the database.
+ * Active unless storage ingests processed jobs instead
+ * ({@code jobcompass.storage.ingest.topic=processed-jobs}), so every job has
+ * a single write path.
+ * Events that still fail on their own are handed to {@value #FAILED_TOPIC}
+ * and retried there one at a time after a growing delay
+ * (raw-jobs-failed-retry-0, -1, ...), so they never hold up the batch
+ * stream; after the last attempt they are parked on {@value #DEAD_LETTER_TOPIC}
+ * for replay. Records that cannot be deserialized are parked there right away.
+ *
  * @author Palrajjayaraj
  */
 @Component
+@ConditionalOnProperty(name = "jobcompass.storage.ingest.topic", havingValue = "raw-jobs", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class RawJobConsumer {
 
+    public static final String FAILED_TOPIC = "raw-jobs-failed";
+    public static final String DEAD_LETTER_TOPIC = FAILED_TOPIC + "-dlt";
+
     private final JobService jobService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * Consume RawJobEvent messages from Kafka.
-     * Saves or updates jobs in the database.
-     * 
-     * @param event     the raw job event from scraper
-     * @param partition the Kafka partition
-     * @param offset    the message offset
+     * Consume a batch of RawJobEvent messages from Kafka.
+     * The whole batch is upserted at once; if that fails, the events are
+     * saved one by one so a single bad event does not drop the batch, and
+     * the ones that fail again are sent to the retry stream, keyed like on
+     * raw-jobs so retries of one job stay in order.
+     * Records that could not be deserialized are parked on the dead-letter
+     * topic as their original bytes. The batch completes only when those
+     * events are safely on Kafka.
+     *
+     * @param records the raw job event records from scraper
      */
     @KafkaListener(topics = "raw-jobs", groupId = "${spring.kafka.consumer.group-id}", containerFactory = "rawJobKafkaListenerContainerFactory")
-    public void consume(
-            @Payload RawJobEvent event,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset) {
-        log.info("Received RawJobEvent from partition {} offset {}: {} at {}",
-                partition, offset, event.getTitle(), event.getCompany());
+    public void consume(List<ConsumerRecord<String, RawJobEvent>> records) {
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+        List<RawJobEvent> events = new ArrayList<>(records.size());
+        List<CompletableFuture<?>> handedOver = new ArrayList<>();
+        for (ConsumerRecord<String, RawJobEvent> record : records) {
+            if (record.value() != null) {
+                events.add(record.value());
+            } else {
+                CompletableFuture<?> parked = UnreadableRecords.park(record, DEAD_LETTER_TOPIC, kafkaTemplate, meterRegistry);
+                if (parked != null) {
+                    handedOver.add(parked);
+                }
+            }
+        }
+        log.info("Received batch of {} RawJobEvents", events.size());
+
+        if (!events.isEmpty()) {
+            try {
+                int saved = jobService.saveRawJobs(events);
+                log.info("Successfully saved batch: {} jobs", saved);
+            } catch (Exception e) {
+                log.error("Failed to save batch of {} raw jobs, falling back to single saves", events.size(), e);
+                for (RawJobEvent event : events) {
+                    if (!saveSingle(event)) {
+                        handedOver.add(kafkaTemplate.send(FAILED_TOPIC, JobKeys.of(event), event));
+                    }
+                }
+            }
+        }
+        CompletableFuture.allOf(handedOver.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * Consume a raw job that failed in its batch.
+     * Failures are rethrown to be retried.
+     *
+     * @param event the raw job event
+     */
+    @RetryableTopic(
+            attempts = "${jobcompass.storage.ingest.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${jobcompass.storage.ingest.retry.delay-ms:2000}",
+                    multiplierExpression = "${jobcompass.storage.ingest.retry.multiplier:5}",
+                    maxDelayExpression = "${jobcompass.storage.ingest.retry.max-delay-ms:300000}"),
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            kafkaTemplate = "kafkaTemplate")
+    @KafkaListener(topics = FAILED_TOPIC, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "rawJobRetryKafkaListenerContainerFactory")
+    public void retry(@Payload RawJobEvent event) {
+        Job savedJob = jobService.saveRawJob(event);
+        log.info("Successfully saved job on retry: {} (ID: {})", savedJob.getTitle(), savedJob.getId());
+    }
+
+    /**
+     * Record an event that failed every attempt.
+     *
+     * @param event the raw job event
+     * @param topic the dead-letter topic
+     */
+    @DltHandler
+    public void deadLetter(@Payload RawJobEvent event, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        log.error("Giving up on raw job {} ({}), parked on {}", event.getTitle(), event.getUrl(), topic);
+        meterRegistry.counter("jobcompass.ingest.dead-letters", "topic", topic).increment();
+    }
 
+    private boolean saveSingle(RawJobEvent event) {
         try {
             Job savedJob = jobService.saveRawJob(event);
             log.info("Successfully saved job: {} (ID: {})", savedJob.getTitle(), savedJob.getId());
+            return true;
         } catch (Exception e) {
-            log.error("Failed to save job from event: {}", event, e);
-            // TODO: Implement Dead Letter Queue (DLQ) for failed messages
-            // For now, log the error and continue processing
+            log.warn("Failed to save job {}, handing it to {}: {}", event.getUrl(), FAILED_TOPIC, e.getMessage());
+            return false;
         }
     }
 }
@@ -0,0 +1,51 @@
+package com.jobcompass.storage.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Parks records that could not be deserialized.
+ * The ErrorHandlingDeserializer hands a batch listener such a record with a
+ * null value and the original bytes in a header; retrying cannot fix them,
+ * so they go straight to the dead-letter topic, as the bytes that were
+ * received, where they can be replayed once the cause is fixed.
+ *
+ * @author Palrajjayaraj
+ */
+@Slf4j
+final class UnreadableRecords {
+
+    private static final LogAccessor LOGGER = new LogAccessor(UnreadableRecords.class);
+
+    private UnreadableRecords() {
+    }
+
+    /**
+     * Publish an unreadable record's original bytes to a dead-letter topic
+     * with its original key, and count it as a dead letter.
+     *
+     * @param record          the record with a null value
+     * @param deadLetterTopic the dead-letter topic
+     * @return the send, or null when the value was null on the topic itself
+     */
+    static CompletableFuture<?> park(ConsumerRecord<String, ?> record, String deadLetterTopic,
+                                     KafkaTemplate<String, Object> kafkaTemplate, MeterRegistry meterRegistry) {
+        DeserializationException failure = SerializationUtils.getExceptionFromHeader(record,
+                SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOGGER);
+        if (failure == null || failure.getData() == null) {
+            log.warn("Skipping record without a value at {}-{}@{}", record.topic(), record.partition(), record.offset());
+            return null;
+        }
+        log.error("Cannot read record at {}-{}@{}, parking it on {}: {}", record.topic(), record.partition(),
+                record.offset(), deadLetterTopic, failure.getMessage());
+        return kafkaTemplate.send(deadLetterTopic, record.key(), failure.getData())
+                .thenRun(() -> meterRegistry.counter("jobcompass.ingest.dead-letters", "topic", deadLetterTopic).increment());
+    }
+}
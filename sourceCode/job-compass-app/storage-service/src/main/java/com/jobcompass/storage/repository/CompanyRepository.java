@@ -14,7 +14,7 @@ import java.util.Optional;
  * @author Palrajjayaraj
  */
 @Repository
-public interface CompanyRepository extends JpaRepository<Company, Long> {
+public interface CompanyRepository extends JpaRepository<Company, Long>, CompanyRepositoryCustom {
 
     /**
      * Find a company by its name.
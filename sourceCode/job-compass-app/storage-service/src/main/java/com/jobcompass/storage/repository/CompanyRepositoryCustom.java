@@ -0,0 +1,33 @@
+package com.jobcompass.storage.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Custom repository operations for Company entity that are not expressible
+ * as derived or JPQL queries.
+ *
+ * @author Palrajjayaraj
+ */
+public interface CompanyRepositoryCustom {
+
+    /**
+     * Resolve company IDs by name, inserting missing companies with
+     * {@code INSERT ... ON CONFLICT (name) DO NOTHING RETURNING id}.
+     * Safe against concurrent consumers inserting the same name.
+     *
+     * @param names the company names
+     * @return the resolved IDs and the names this call inserted
+     */
+    ResolvedCompanyIds resolveIds(Collection<String> names);
+
+    /**
+     * Result of {@link #resolveIds(Collection)}.
+     *
+     * @param ids     company ID by name
+     * @param created names that were inserted by this call
+     */
+    record ResolvedCompanyIds(Map<String, Long> ids, Set<String> created) {
+    }
+}
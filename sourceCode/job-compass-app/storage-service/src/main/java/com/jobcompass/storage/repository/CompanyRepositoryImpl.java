@@ -0,0 +1,80 @@
+package com.jobcompass.storage.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JDBC-backed implementation of {@link CompanyRepositoryCustom}.
+ *
+ * @author Palrajjayaraj
+ */
+@RequiredArgsConstructor
+public class CompanyRepositoryImpl implements CompanyRepositoryCustom {
+
+    private static final String SELECT_IDS = "SELECT id, name FROM companies WHERE name = ANY(?)";
+
+    private static final String INSERT_MISSING = """
+            INSERT INTO companies (id, name, created_at, updated_at)
+            SELECT c.id, c.name, ?, ? FROM unnest(?, ?) AS c(id, name)
+            ON CONFLICT (name) DO NOTHING
+            RETURNING id, name
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public ResolvedCompanyIds resolveIds(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        Set<String> created = new HashSet<>();
+        if (names.isEmpty()) {
+            return new ResolvedCompanyIds(ids, created);
+        }
+
+        selectIds(names, ids);
+
+        Set<String> missing = new HashSet<>(names);
+        missing.removeAll(ids.keySet());
+        if (!missing.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            Long[] newIds = PooledIds.allocate(jdbcTemplate, "companies_id_seq", missing.size());
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_MISSING);
+                ps.setTimestamp(1, now);
+                ps.setTimestamp(2, now);
+                ps.setArray(3, con.createArrayOf("bigint", newIds));
+                ps.setArray(4, con.createArrayOf("varchar", missing.toArray()));
+                return ps;
+            }, rs -> {
+                ids.put(rs.getString("name"), rs.getLong("id"));
+                created.add(rs.getString("name"));
+            });
+
+            // Names skipped by DO NOTHING were inserted concurrently by another consumer
+            missing.removeAll(created);
+            if (!missing.isEmpty()) {
+                selectIds(missing, ids);
+            }
+        }
+
+        return new ResolvedCompanyIds(ids, created);
+    }
+
+    private void selectIds(Collection<String> names, Map<String, Long> ids) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_IDS);
+            ps.setArray(1, con.createArrayOf("varchar", names.toArray()));
+            return ps;
+        }, rs -> {
+            ids.put(rs.getString("name"), rs.getLong("id"));
+        });
+    }
+}
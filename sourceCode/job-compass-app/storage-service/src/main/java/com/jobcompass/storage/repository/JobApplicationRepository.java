@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,6 +54,16 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
      */
     long countByJobId(Long jobId);
 
+    /**
+     * Count applications for a set of jobs in one grouped query.
+     * Jobs without applications are absent from the result.
+     * 
+     * @param jobIds the job IDs
+     * @return rows of [job ID, application count]
+     */
+    @Query("SELECT ja.job.id, COUNT(ja) FROM JobApplication ja WHERE ja.job.id IN :jobIds GROUP BY ja.job.id")
+    List<Object[]> countByJobIds(@Param("jobIds") Collection<Long> jobIds);
+
     /**
      * Check if a user has already applied to a job.
      * 
@@ -3,15 +3,21 @@ package com.jobcompass.storage.repository;
 import com.jobcompass.common.model.Source;
 import com.jobcompass.storage.entity.Company;
 import com.jobcompass.storage.entity.Job;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Job entity.
@@ -20,7 +26,7 @@ import java.util.Set;
  * @author Palrajjayaraj
  */
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job>, JobRepositoryCustom {
 
     /**
      * Find a job by its URL.
@@ -30,6 +36,19 @@ public interface JobRepository extends JpaRepository<Job, Long> {
      */
     Optional<Job> findByUrl(String url);
 
+    /**
+     * Record that an unchanged job was seen again.
+     * Only last_seen_at is written, so the search_vector trigger does not fire
+     * and updated_at keeps the time of the last real change.
+     * 
+     * @param id the job ID
+     * @param seenAt when the job was seen
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Job j SET j.lastSeenAt = :seenAt WHERE j.id = :id")
+    int markSeen(@Param("id") Long id, @Param("seenAt") LocalDateTime seenAt);
+
     /**
      * Find a job by source and external ID.
      * 
@@ -48,74 +67,37 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     List<Job> findByCompany(Company company);
 
     /**
-     * Find active jobs by source.
-     * 
-     * @param source   the job source
-     * @param isActive whether the job is active
-     * @return list of active jobs from the source
-     */
-    List<Job> findBySourceAndIsActive(Source source, boolean isActive);
-
-    /**
-     * Find all active jobs.
-     * 
-     * @param isActive whether the job is active
-     * @return list of active jobs
-     */
-    List<Job> findByIsActive(boolean isActive);
-
-    /**
-     * Find recent jobs posted on or after a specific date.
+     * Find a job by ID with eager fetching of its company.
+     * Skill names are loaded separately with {@link #findSkillNamesByJobIds}.
      * 
-     * @param startDate the start date
-     * @return list of recent active jobs
-     */
-    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.company LEFT JOIN FETCH j.skills WHERE j.postedDate >= :startDate AND j.isActive = true ORDER BY j.postedDate DESC")
-    List<Job> findRecentJobs(@Param("startDate") LocalDate startDate);
-
-    /**
-     * Find jobs by skills.
-     * 
-     * @param skillNames set of skill names
-     * @return list of active jobs requiring the specified skills
-     */
-    @Query("SELECT DISTINCT j FROM Job j JOIN j.skills s WHERE s.name IN :skillNames AND j.isActive = true")
-    List<Job> findBySkills(@Param("skillNames") Set<String> skillNames);
-
-    /**
-     * Find jobs by location (case-insensitive partial match).
-     * 
-     * @param location the location keyword
-     * @return list of active jobs matching the location
-     */
-    @Query("SELECT j FROM Job j WHERE LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%')) AND j.isActive = true")
-    List<Job> findByLocationContainingIgnoreCase(@Param("location") String location);
-
-    /**
-     * Find jobs by company name (case-insensitive partial match).
-     * 
-     * @param companyName the company name keyword
-     * @return list of active jobs from matching companies
+     * @param id the job ID
+     * @return Optional containing the job if found
      */
-    @Query("SELECT j FROM Job j WHERE LOWER(j.company.name) LIKE LOWER(CONCAT('%', :companyName, '%')) AND j.isActive = true")
-    List<Job> findByCompanyNameContainingIgnoreCase(@Param("companyName") String companyName);
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.company WHERE j.id = :id")
+    Optional<Job> findByIdWithDetails(@Param("id") Long id);
 
     /**
-     * Find jobs posted within a date range.
+     * Find skill names for a set of jobs in one query.
+     * Used to assemble list responses without touching each job's lazy skills collection.
      * 
-     * @param startDate the start date
-     * @param endDate   the end date
-     * @return list of active jobs within the date range
+     * @param jobIds the job IDs
+     * @return rows of [job ID, skill name]
      */
-    @Query("SELECT j FROM Job j WHERE j.postedDate BETWEEN :startDate AND :endDate AND j.isActive = true ORDER BY j.postedDate DESC")
-    List<Job> findByPostedDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    @Query("SELECT j.id, s.name FROM Job j JOIN j.skills s WHERE j.id IN :jobIds")
+    List<Object[]> findSkillNamesByJobIds(@Param("jobIds") Collection<Long> jobIds);
 
     /**
-     * Find a job by ID with eager fetching of associated entities.
+     * Stream all active jobs, newest first, through a database cursor.
+     * Rows are fetched from the server in batches of the JDBC fetch size instead
+     * of materializing the whole result. Must be consumed inside a transaction.
      * 
-     * @param id the job ID
-     * @return Optional containing the job if found
+     * @return stream of active jobs with their company
      */
-    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.company LEFT JOIN FETCH j.skills WHERE j.id = :id")
-    Optional<Job> findByIdWithDetails(@Param("id") Long id);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.company WHERE j.isActive = true ORDER BY j.postedDate DESC, j.id DESC")
+    Stream<Job> streamActiveJobs();
 }
@@ -0,0 +1,76 @@
+package com.jobcompass.storage.repository;
+
+import com.jobcompass.storage.dto.JobSearchCriteria;
+import com.jobcompass.storage.dto.JobSearchCursor;
+import com.jobcompass.storage.dto.JobSummary;
+import com.jobcompass.storage.entity.Job;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom repository operations for Job entity that are not expressible
+ * as derived or JPQL queries.
+ *
+ * @author Palrajjayaraj
+ */
+public interface JobRepositoryCustom {
+
+    /**
+     * Insert or update a batch of jobs using multi-row
+     * {@code INSERT ... ON CONFLICT (source, external_id) DO UPDATE} statements.
+     * Active jobs whose stored content hash equals the job's hash are not
+     * rewritten; only their last_seen_at is set.
+     * The jobs must have a source and distinct external IDs.
+     * The ID of each inserted or changed row is set on its job; jobs that
+     * were only marked as seen keep a null ID.
+     *
+     * @param jobs the jobs to write
+     * @return number of rows inserted or changed
+     */
+    int upsertAll(List<Job> jobs);
+
+    /**
+     * Replace the skills of a batch of jobs with one DELETE and one
+     * multi-row {@code INSERT ... SELECT FROM unnest} into job_skills.
+     * A job mapped to no skills loses all of its skills.
+     *
+     * @param skillIdsByJobId skill IDs by job ID
+     */
+    void replaceSkills(Map<Long, ? extends Collection<Long>> skillIdsByJobId);
+
+    /**
+     * Select job card fields for the jobs matching a specification,
+     * in {@link JobSpecifications#KEYSET_SORT} order.
+     * Only the summary columns are read; no entities are loaded.
+     *
+     * @param spec  the restriction, may be null
+     * @param limit maximum number of rows
+     * @return the job summaries
+     */
+    List<JobSummary> findSummaries(Specification<Job> spec, int limit);
+
+    /**
+     * Full-text search over active jobs, best match first.
+     * Matches the query against the weighted title, company and description
+     * document and ranks with {@code ts_rank_cd}.
+     *
+     * @param query free-text query in web search syntax (quoted phrases, {@code or}, {@code -term})
+     * @param criteria additional filters, may be null
+     * @param after the keyset position to continue from, or null for the first page
+     * @param limit maximum number of results
+     * @return matching job IDs with their rank, in (rank, ID) descending order
+     */
+    List<RankedJobId> searchIds(String query, JobSearchCriteria criteria, JobSearchCursor after, int limit);
+
+    /**
+     * A full-text search hit.
+     *
+     * @param id   the job ID
+     * @param rank the relevance rank
+     */
+    record RankedJobId(long id, float rank) {
+    }
+}
@@ -0,0 +1,348 @@
+package com.jobcompass.storage.repository;
+
+import com.jobcompass.storage.dto.JobSearchCriteria;
+import com.jobcompass.storage.dto.JobSearchCursor;
+import com.jobcompass.storage.dto.JobSummary;
+import com.jobcompass.storage.entity.Company;
+import com.jobcompass.storage.entity.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JDBC-backed implementation of {@link JobRepositoryCustom}.
+ * Bulk writes bypass the persistence context so a whole batch costs
+ * one round trip per chunk instead of a SELECT and an INSERT per job.
+ *
+ * @author Palrajjayaraj
+ */
+@RequiredArgsConstructor
+public class JobRepositoryImpl implements JobRepositoryCustom {
+
+    /**
+     * Rows per statement. Keeps the bind parameter count well below
+     * the PostgreSQL limit of 65535.
+     */
+    static final int UPSERT_CHUNK_SIZE = 1000;
+
+    /**
+     * Marks active jobs whose stored content hash matches as seen.
+     * Writes only the unindexed last_seen_at column.
+     */
+    private static final String MARK_UNCHANGED_SEEN = """
+            UPDATE jobs SET last_seen_at = ?
+            FROM unnest(?, ?, ?) AS seen(source, external_id, content_hash)
+            WHERE jobs.source = seen.source AND jobs.external_id = seen.external_id
+              AND jobs.content_hash = seen.content_hash AND jobs.is_active = TRUE
+            RETURNING jobs.source, jobs.external_id
+            """;
+
+    private static final String UPSERT_PREFIX = """
+            INSERT INTO jobs (id, title, description, location, url, external_id, posted_date, source, scraped_at,
+                              company_id, salary_range, job_age_days, content_hash, last_seen_at, is_active,
+                              created_at, updated_at)
+            VALUES
+            """;
+
+    private static final String UPSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?)";
+
+    /**
+     * A row that updates an existing job keeps that job's ID.
+     * The WHERE clause skips rows that became unchanged after the
+     * MARK_UNCHANGED_SEEN statement ran, e.g. written by a concurrent consumer.
+     * Salary and job age are only known for processed jobs, so a job written
+     * without them keeps the stored values.
+     */
+    private static final String UPSERT_SUFFIX = """
+             ON CONFLICT (source, external_id) DO UPDATE SET
+                title = EXCLUDED.title,
+                url = EXCLUDED.url,
+                description = EXCLUDED.description,
+                location = EXCLUDED.location,
+                scraped_at = EXCLUDED.scraped_at,
+                company_id = COALESCE(EXCLUDED.company_id, jobs.company_id),
+                salary_range = COALESCE(EXCLUDED.salary_range, jobs.salary_range),
+                job_age_days = COALESCE(EXCLUDED.job_age_days, jobs.job_age_days),
+                content_hash = EXCLUDED.content_hash,
+                last_seen_at = EXCLUDED.last_seen_at,
+                is_active = TRUE,
+                updated_at = EXCLUDED.updated_at
+            WHERE jobs.content_hash IS DISTINCT FROM EXCLUDED.content_hash OR jobs.is_active = FALSE
+            RETURNING id, source, external_id
+            """;
+
+    private static final String DELETE_JOB_SKILLS = "DELETE FROM job_skills WHERE job_id = ANY(?)";
+
+    private static final String INSERT_JOB_SKILLS = """
+            INSERT INTO job_skills (job_id, skill_id)
+            SELECT job_id, skill_id FROM unnest(?, ?) AS js(job_id, skill_id)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String SEARCH_PREFIX = """
+            SELECT id, rank FROM (
+                SELECT j.id, ts_rank_cd(j.search_vector, query) AS rank
+                FROM jobs j, websearch_to_tsquery('english', ?) AS query
+                WHERE j.is_active = TRUE AND j.search_vector @@ query
+            """;
+
+    private static final String SEARCH_SOURCE = " AND j.source = ?\n";
+
+    private static final String SEARCH_POSTED_AFTER = " AND j.posted_date >= ?\n";
+
+    private static final String SEARCH_SKILLS = """
+             AND EXISTS (SELECT 1 FROM job_skills js JOIN skills s ON s.id = js.skill_id
+                         WHERE js.job_id = j.id AND s.name = ANY(?))
+            """;
+
+    private static final String SEARCH_LOCATION = " AND LOWER(j.location) LIKE ? ESCAPE '\\'\n";
+
+    private static final String SEARCH_COMPANY = """
+             AND EXISTS (SELECT 1 FROM companies c
+                         WHERE c.id = j.company_id AND LOWER(c.name) LIKE ? ESCAPE '\\')
+            """;
+
+    private static final String SEARCH_RANKED = ") ranked\n";
+
+    private static final String SEARCH_AFTER = "WHERE rank < ? OR (rank = ? AND id < ?)\n";
+
+    private static final String SEARCH_SUFFIX = "ORDER BY rank DESC, id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public int upsertAll(List<Job> jobs) {
+        int affected = 0;
+        for (int from = 0; from < jobs.size(); from += UPSERT_CHUNK_SIZE) {
+            List<Job> chunk = jobs.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, jobs.size()));
+            affected += upsertChunk(chunk);
+        }
+        return affected;
+    }
+
+    private int upsertChunk(List<Job> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> unchanged = markUnchangedSeen(chunk, now);
+        List<Job> changed = chunk.stream()
+                .filter(job -> !unchanged.contains(key(job)))
+                .toList();
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        Long[] ids = PooledIds.allocate(jdbcTemplate, "jobs_id_seq", changed.size());
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+        List<Object> args = new ArrayList<>(changed.size() * 16);
+
+        for (int i = 0; i < changed.size(); i++) {
+            Job job = changed.get(i);
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(UPSERT_ROW);
+
+            args.add(ids[i]);
+            args.add(job.getTitle());
+            args.add(job.getDescription());
+            args.add(job.getLocation());
+            args.add(job.getUrl());
+            args.add(job.getExternalId());
+            args.add(job.getPostedDate());
+            args.add(job.getSource() != null ? job.getSource().name() : null);
+            args.add(job.getScrapedAt());
+            args.add(job.getCompany() != null ? job.getCompany().getId() : null);
+            args.add(job.getSalaryRange());
+            args.add(job.getJobAgeDays());
+            args.add(job.getContentHash());
+            args.add(now);
+            args.add(now);
+            args.add(now);
+        }
+        sql.append(UPSERT_SUFFIX);
+
+        Map<String, Job> byKey = new HashMap<>();
+        for (Job job : changed) {
+            byKey.put(key(job), job);
+        }
+        int[] affected = {0};
+        jdbcTemplate.query(sql.toString(), rs -> {
+            Job job = byKey.get(key(rs.getString("source"), rs.getString("external_id")));
+            if (job != null) {
+                job.setId(rs.getLong("id"));
+            }
+            affected[0]++;
+        }, args.toArray());
+        return affected[0];
+    }
+
+    @Override
+    public void replaceSkills(Map<Long, ? extends Collection<Long>> skillIdsByJobId) {
+        if (skillIdsByJobId.isEmpty()) {
+            return;
+        }
+
+        List<Long> jobIds = new ArrayList<>();
+        List<Long> skillIds = new ArrayList<>();
+        skillIdsByJobId.forEach((jobId, skills) -> {
+            for (Long skillId : skills) {
+                jobIds.add(jobId);
+                skillIds.add(skillId);
+            }
+        });
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(DELETE_JOB_SKILLS);
+            ps.setArray(1, con.createArrayOf("bigint", skillIdsByJobId.keySet().toArray()));
+            return ps;
+        });
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_JOB_SKILLS);
+            ps.setArray(1, con.createArrayOf("bigint", jobIds.toArray()));
+            ps.setArray(2, con.createArrayOf("bigint", skillIds.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * Set last_seen_at on active jobs whose content hash is unchanged.
+     *
+     * @param chunk the jobs to write
+     * @param now   the time the jobs were seen
+     * @return source and external ID keys of the unchanged jobs
+     */
+    private Set<String> markUnchangedSeen(List<Job> chunk, LocalDateTime now) {
+        List<Job> hashed = chunk.stream()
+                .filter(job -> job.getContentHash() != null && job.getSource() != null && job.getExternalId() != null)
+                .toList();
+        Set<String> unchanged = new HashSet<>();
+        if (hashed.isEmpty()) {
+            return unchanged;
+        }
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(MARK_UNCHANGED_SEEN);
+            ps.setTimestamp(1, Timestamp.valueOf(now));
+            ps.setArray(2, con.createArrayOf("varchar", hashed.stream().map(job -> job.getSource().name()).toArray()));
+            ps.setArray(3, con.createArrayOf("varchar", hashed.stream().map(Job::getExternalId).toArray()));
+            ps.setArray(4, con.createArrayOf("varchar", hashed.stream().map(Job::getContentHash).toArray()));
+            return ps;
+        }, rs -> {
+            unchanged.add(key(rs.getString("source"), rs.getString("external_id")));
+        });
+        return unchanged;
+    }
+
+    private static String key(Job job) {
+        return key(job.getSource() != null ? job.getSource().name() : null, job.getExternalId());
+    }
+
+    private static String key(String source, String externalId) {
+        return source + ':' + externalId;
+    }
+
+    @Override
+    public List<JobSummary> findSummaries(Specification<Job> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobSummary> query = cb.createQuery(JobSummary.class);
+        Root<Job> root = query.from(Job.class);
+        Join<Job, Company> company = JobSpecifications.company(root);
+        query.select(cb.construct(JobSummary.class,
+            root.get("id"),
+            root.get("title"),
+            company.get("name"),
+            root.get("location"),
+            root.get("salaryRange"),
+            root.get("url"),
+            root.get("postedDate"),
+            root.get("jobAgeDays"),
+            root.get("source")));
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(JobSpecifications.KEYSET_SORT, root, cb));
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public List<RankedJobId> searchIds(String query, JobSearchCriteria criteria, JobSearchCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SEARCH_PREFIX);
+        List<Object> args = new ArrayList<>();
+        args.add(query);
+        // Same selectivity order as JobSpecifications.matching
+        if (criteria != null) {
+            if (criteria.getSource() != null) {
+                sql.append(SEARCH_SOURCE);
+                args.add(criteria.getSource().name());
+            }
+            if (criteria.getMaxJobAgeDays() != null) {
+                sql.append(SEARCH_POSTED_AFTER);
+                args.add(LocalDate.now().minusDays(criteria.getMaxJobAgeDays()));
+            }
+            if (criteria.getSkills() != null && !criteria.getSkills().isEmpty()) {
+                sql.append(SEARCH_SKILLS);
+                args.add(criteria.getSkills().toArray(new String[0]));
+            }
+            if (JobSpecifications.hasText(criteria.getLocation())) {
+                sql.append(SEARCH_LOCATION);
+                args.add(JobSpecifications.containsPattern(criteria.getLocation()));
+            }
+            if (JobSpecifications.hasText(criteria.getCompanyName())) {
+                sql.append(SEARCH_COMPANY);
+                args.add(JobSpecifications.containsPattern(criteria.getCompanyName()));
+            }
+        }
+        sql.append(SEARCH_RANKED);
+        if (after != null) {
+            sql.append(SEARCH_AFTER);
+            args.add(after.rank());
+            args.add(after.rank());
+            args.add(after.id());
+        }
+        sql.append(SEARCH_SUFFIX);
+        args.add(limit);
+
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            for (int i = 0; i < args.size(); i++) {
+                Object arg = args.get(i);
+                if (arg instanceof String[] names) {
+                    ps.setArray(i + 1, con.createArrayOf("varchar", names));
+                } else {
+                    ps.setObject(i + 1, arg);
+                }
+            }
+            return ps;
+        }, (rs, rowNum) -> new RankedJobId(rs.getLong("id"), rs.getFloat("rank")));
+    }
+}
@@ -0,0 +1,177 @@
+package com.jobcompass.storage.repository;
+
+import com.jobcompass.common.model.Source;
+import com.jobcompass.storage.dto.JobCursor;
+import com.jobcompass.storage.dto.JobSearchCriteria;
+import com.jobcompass.storage.entity.Company;
+import com.jobcompass.storage.entity.Job;
+import com.jobcompass.storage.entity.Skill;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Reusable query predicates for Job entity listings.
+ * 
+ * @author Palrajjayaraj
+ */
+public final class JobSpecifications {
+
+    /**
+     * Stable listing order backed by the (posted_date DESC, id DESC) indexes.
+     */
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("postedDate"), Sort.Order.desc("id"));
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private JobSpecifications() {
+    }
+
+    /**
+     * Only active jobs.
+     */
+    public static Specification<Job> isActive() {
+        return (root, query, cb) -> cb.isTrue(root.get("isActive"));
+    }
+
+    /**
+     * Jobs posted on or after a date.
+     */
+    public static Specification<Job> postedOnOrAfter(LocalDate startDate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("postedDate"), startDate);
+    }
+
+    /**
+     * Jobs with one of the IDs.
+     */
+    public static Specification<Job> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Jobs from one source.
+     */
+    public static Specification<Job> hasSource(Source source) {
+        return (root, query, cb) -> cb.equal(root.get("source"), source);
+    }
+
+    /**
+     * Jobs whose location contains a keyword, case-insensitive.
+     * {@code LOWER(location) LIKE} is served by the idx_job_location_trgm trigram index.
+     */
+    public static Specification<Job> locationContains(String location) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("location")), containsPattern(location), LIKE_ESCAPE);
+    }
+
+    /**
+     * Jobs whose company name contains a keyword, case-insensitive.
+     * {@code LOWER(name) LIKE} is served by the idx_company_name_trgm trigram index.
+     */
+    public static Specification<Job> companyNameContains(String companyName) {
+        return (root, query, cb) -> cb.like(cb.lower(company(root).get("name")), containsPattern(companyName), LIKE_ESCAPE);
+    }
+
+    /**
+     * Jobs requiring at least one of the skills.
+     * Uses EXISTS rather than a join so a job matching several skills is returned once.
+     */
+    public static Specification<Job> hasAnySkill(Collection<String> skillNames) {
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Job> job = subquery.from(Job.class);
+            Join<Job, Skill> skill = job.join("skills");
+            subquery.select(job.get("id"))
+                .where(cb.equal(job.get("id"), root.get("id")), skill.get("name").in(skillNames));
+            return cb.exists(subquery);
+        };
+    }
+
+    /**
+     * Jobs matching all criteria that are set; blank criteria are ignored.
+     * Predicates are added most selective first: source equality and the
+     * posted date bound narrow the partial keyset indexes, the skill EXISTS
+     * probes job_skills, and the substring filters run last.
+     *
+     * @param criteria the search criteria, may be null
+     */
+    public static Specification<Job> matching(JobSearchCriteria criteria) {
+        Specification<Job> spec = Specification.where(null);
+        if (criteria == null) {
+            return spec;
+        }
+        if (criteria.getSource() != null) {
+            spec = spec.and(hasSource(criteria.getSource()));
+        }
+        if (criteria.getMaxJobAgeDays() != null) {
+            spec = spec.and(postedOnOrAfter(LocalDate.now().minusDays(criteria.getMaxJobAgeDays())));
+        }
+        if (criteria.getSkills() != null && !criteria.getSkills().isEmpty()) {
+            spec = spec.and(hasAnySkill(criteria.getSkills()));
+        }
+        if (hasText(criteria.getLocation())) {
+            spec = spec.and(locationContains(criteria.getLocation()));
+        }
+        if (hasText(criteria.getCompanyName())) {
+            spec = spec.and(companyNameContains(criteria.getCompanyName()));
+        }
+        return spec;
+    }
+
+    /**
+     * Jobs after a keyset position in {@link #KEYSET_SORT} order.
+     * The redundant {@code posted_date <= ?} bound lets the planner use an index range scan.
+     *
+     * @param cursor the position, or null for the first page
+     */
+    public static Specification<Job> after(JobCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            return cb.and(
+                cb.lessThanOrEqualTo(root.get("postedDate"), cursor.postedDate()),
+                cb.or(
+                    cb.lessThan(root.get("postedDate"), cursor.postedDate()),
+                    cb.and(
+                        cb.equal(root.get("postedDate"), cursor.postedDate()),
+                        cb.lessThan(root.get("id"), cursor.id()))));
+        };
+    }
+
+    /**
+     * The query's join to the company, so filtering on it does not join the
+     * companies table a second time; a left join is added when there is none yet.
+     */
+    @SuppressWarnings("unchecked")
+    static Join<Job, Company> company(Root<Job> root) {
+        for (Join<Job, ?> join : root.getJoins()) {
+            if ("company".equals(join.getAttribute().getName())) {
+                return (Join<Job, Company>) join;
+            }
+        }
+        return root.join("company", JoinType.LEFT);
+    }
+
+    /**
+     * Build a lower-case {@code %term%} pattern, escaping LIKE wildcards in the term
+     * so user input matches literally.
+     */
+    static String containsPattern(String term) {
+        String escaped = term.toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
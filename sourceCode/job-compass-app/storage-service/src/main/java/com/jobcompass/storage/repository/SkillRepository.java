@@ -5,9 +5,9 @@ import com.jobcompass.storage.entity.enums.SkillCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * Repository interface for Skill entity.
@@ -16,7 +16,7 @@ import java.util.Set;
  * @author Palrajjayaraj
  */
 @Repository
-public interface SkillRepository extends JpaRepository<Skill, Long> {
+public interface SkillRepository extends JpaRepository<Skill, Long>, SkillRepositoryCustom {
 
     /**
      * Find a skill by its name.
@@ -35,12 +35,12 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     List<Skill> findByCategory(SkillCategory category);
 
     /**
-     * Find skills by names (case-insensitive).
+     * Find skills by names (exact match).
      * 
      * @param names set of skill names
      * @return list of matching skills
      */
-    List<Skill> findByNameIn(Set<String> names);
+    List<Skill> findByNameIn(Collection<String> names);
 
     /**
      * Check if a skill exists by name.
@@ -0,0 +1,35 @@
+package com.jobcompass.storage.repository;
+
+import com.jobcompass.storage.entity.enums.SkillCategory;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Custom repository operations for Skill entity that are not expressible
+ * as derived or JPQL queries.
+ *
+ * @author Palrajjayaraj
+ */
+public interface SkillRepositoryCustom {
+
+    /**
+     * Insert skills that do not exist yet in a single multi-row statement,
+     * {@code INSERT ... ON CONFLICT (name) DO NOTHING RETURNING id, name}.
+     * Names that already exist, or are inserted concurrently, are skipped.
+     *
+     * @param names the skill names
+     * @return skill ID by name for the skills this call inserted
+     */
+    Map<String, Long> insertMissing(Collection<String> names);
+
+    /**
+     * Insert skills with their categories in a single multi-row statement.
+     * Existing skills keep their category unless they have none, so seeding
+     * also fills in categories for skills first created by name only.
+     *
+     * @param categories skill category by name
+     * @return skill ID by name for the skills this call inserted or updated
+     */
+    Map<String, Long> insertWithCategories(Map<String, SkillCategory> categories);
+}
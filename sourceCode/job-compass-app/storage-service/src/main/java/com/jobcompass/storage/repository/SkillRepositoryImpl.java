@@ -0,0 +1,85 @@
+package com.jobcompass.storage.repository;
+
+import com.jobcompass.storage.entity.enums.SkillCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDBC-backed implementation of {@link SkillRepositoryCustom}.
+ *
+ * @author Palrajjayaraj
+ */
+@RequiredArgsConstructor
+public class SkillRepositoryImpl implements SkillRepositoryCustom {
+
+    private static final String INSERT_MISSING = """
+            INSERT INTO skills (id, name, created_at)
+            SELECT s.id, s.name, ? FROM unnest(?, ?) AS s(id, name)
+            ON CONFLICT (name) DO NOTHING
+            RETURNING id, name
+            """;
+
+    private static final String INSERT_WITH_CATEGORIES = """
+            INSERT INTO skills (id, name, category, created_at)
+            SELECT s.id, s.name, s.category, ? FROM unnest(?, ?, ?) AS s(id, name, category)
+            ON CONFLICT (name) DO UPDATE SET category = EXCLUDED.category
+            WHERE skills.category IS NULL
+            RETURNING id, name
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<String, Long> insertMissing(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long[] newIds = PooledIds.allocate(jdbcTemplate, "skills_id_seq", names.size());
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_MISSING);
+            ps.setTimestamp(1, now);
+            ps.setArray(2, con.createArrayOf("bigint", newIds));
+            ps.setArray(3, con.createArrayOf("varchar", names.toArray()));
+            return ps;
+        }, rs -> {
+            ids.put(rs.getString("name"), rs.getLong("id"));
+        });
+        return ids;
+    }
+
+    @Override
+    public Map<String, Long> insertWithCategories(Map<String, SkillCategory> categories) {
+        Map<String, Long> ids = new HashMap<>();
+        if (categories.isEmpty()) {
+            return ids;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Object[] names = categories.keySet().toArray();
+        Object[] categoryNames = categories.keySet().stream()
+                .map(name -> categories.get(name) != null ? categories.get(name).name() : null)
+                .toArray();
+        Long[] newIds = PooledIds.allocate(jdbcTemplate, "skills_id_seq", names.length);
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_WITH_CATEGORIES);
+            ps.setTimestamp(1, now);
+            ps.setArray(2, con.createArrayOf("bigint", newIds));
+            ps.setArray(3, con.createArrayOf("varchar", names));
+            ps.setArray(4, con.createArrayOf("varchar", categoryNames));
+            return ps;
+        }, rs -> {
+            ids.put(rs.getString("name"), rs.getLong("id"));
+        });
+        return ids;
+    }
+}
@@ -1,14 +1,22 @@
 package com.jobcompass.storage.service;
 
+import com.jobcompass.storage.cache.CompanyIdCache;
 import com.jobcompass.storage.entity.Company;
 import com.jobcompass.storage.repository.CompanyRepository;
+import com.jobcompass.storage.repository.CompanyRepositoryCustom.ResolvedCompanyIds;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Company entity operations.
@@ -22,13 +30,15 @@ import java.util.Optional;
 public class CompanyService {
 
     private final CompanyRepository companyRepository;
+    private final CompanyIdCache companyIdCache;
 
     /**
      * Find or create a company by name.
-     * If the company doesn't exist, creates a new one with the given name.
+     * Resolved through the company ID cache; on a miss the company is looked up
+     * or inserted in a single race-safe statement.
      * 
      * @param name the company name
-     * @return the existing or newly created company
+     * @return a reference to the existing or newly created company
      */
     @Transactional
     public Company findOrCreateCompany(String name) {
@@ -36,14 +46,48 @@ public class CompanyService {
             return null;
         }
 
-        return companyRepository.findByName(name)
-            .orElseGet(() -> {
-                log.info("Creating new company: {}", name);
-                Company newCompany = Company.builder()
-                    .name(name)
-                    .build();
-                return companyRepository.save(newCompany);
-            });
+        return findOrCreateCompanies(List.of(name)).get(name);
+    }
+
+    /**
+     * Find or create companies for a batch of names.
+     * Cached names cost no query; the misses are resolved together and
+     * missing companies are inserted with ON CONFLICT (name) DO NOTHING.
+     * 
+     * @param names the company names (blank names are ignored)
+     * @return map of company name to a reference to the existing or newly created company
+     */
+    @Transactional
+    public Map<String, Company> findOrCreateCompanies(Collection<String> names) {
+        Set<String> wanted = names.stream()
+            .filter(name -> name != null && !name.trim().isEmpty())
+            .collect(Collectors.toSet());
+        if (wanted.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<String, Long> ids = new HashMap<>(companyIdCache.getAllPresent(wanted));
+        Set<String> misses = new HashSet<>(wanted);
+        misses.removeAll(ids.keySet());
+
+        if (!misses.isEmpty()) {
+            ResolvedCompanyIds resolved = companyRepository.resolveIds(misses);
+            if (!resolved.created().isEmpty()) {
+                log.info("Created {} new companies: {}", resolved.created().size(), resolved.created());
+            }
+
+            Map<String, Long> existing = new HashMap<>();
+            Map<String, Long> created = new HashMap<>();
+            resolved.ids().forEach((name, id) ->
+                (resolved.created().contains(name) ? created : existing).put(name, id));
+            companyIdCache.putAll(existing);
+            companyIdCache.putAllAfterCommit(created);
+            ids.putAll(resolved.ids());
+        }
+
+        Map<String, Company> companies = new HashMap<>();
+        ids.forEach((name, id) -> companies.put(name, companyRepository.getReferenceById(id)));
+        return companies;
     }
 
     /**
@@ -84,6 +128,9 @@ public class CompanyService {
     @Transactional
     public Company updateCompany(Company company) {
         log.info("Updating company: {}", company.getName());
-        return companyRepository.save(company);
+        Company updated = companyRepository.save(company);
+        // A rename would leave the old name pointing at this company
+        companyIdCache.invalidateAll();
+        return updated;
     }
 }
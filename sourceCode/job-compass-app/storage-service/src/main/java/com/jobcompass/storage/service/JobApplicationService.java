@@ -1,5 +1,6 @@
 package com.jobcompass.storage.service;
 
+import com.jobcompass.storage.cache.JobPageCache;
 import com.jobcompass.storage.entity.Job;
 import com.jobcompass.storage.entity.JobApplication;
 import com.jobcompass.storage.entity.enums.ApplicationStatus;
@@ -11,7 +12,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,12 +29,20 @@ import java.util.Optional;
 @Slf4j
 public class JobApplicationService {
 
+    /**
+     * Maximum number of job IDs bound into one IN clause.
+     */
+    private static final int ID_BATCH_SIZE = 1000;
+
     private final JobApplicationRepository jobApplicationRepository;
     private final JobRepository jobRepository;
+    private final JobPageCache jobPageCache;
 
     /**
      * Apply to a job.
      * Prevents duplicate applications for the same user and job.
+     * Cached job pages carry application counts, so they are invalidated
+     * once the transaction commits.
      * 
      * @param jobId the job ID
      * @param userEmail the user's email
@@ -59,6 +71,7 @@ public class JobApplicationService {
             .notes(notes)
             .build();
 
+        jobPageCache.invalidateAllAfterCommit();
         return jobApplicationRepository.save(application);
     }
 
@@ -133,6 +146,24 @@ public class JobApplicationService {
         return jobApplicationRepository.countByJobId(jobId);
     }
 
+    /**
+     * Count applications for many jobs with grouped queries instead of one query per job.
+     * 
+     * @param jobIds the job IDs
+     * @return application count by job ID; jobs without applications are absent
+     */
+    public Map<Long, Long> countApplicationsForJobs(Collection<Long> jobIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> ids = List.copyOf(jobIds);
+        for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+            for (Object[] row : jobApplicationRepository.countByJobIds(chunk)) {
+                counts.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        return counts;
+    }
+
     /**
      * Update application notes.
      * 
@@ -0,0 +1,80 @@
+package com.jobcompass.storage.service;
+
+import com.jobcompass.common.events.ProcessedJobEvent;
+import com.jobcompass.common.events.RawJobEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Content hash of a scraped job posting, used to detect re-scrapes that
+ * changed nothing.
+ * Covers the fields a re-scrape overwrites: title, company, location and
+ * description, plus the salary for processed events. Posted dates are left
+ * out because they are derived from relative text ("2 days ago") that
+ * changes every day for the same posting.
+ *
+ * @author Palrajjayaraj
+ */
+final class JobContentHash {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Separates fields so that moving text between fields changes the hash.
+     */
+    private static final char FIELD_SEPARATOR = '\u001F';
+
+    private JobContentHash() {
+    }
+
+    /**
+     * Hash the normalized content of a raw job event.
+     * Fields are Unicode-normalized, trimmed and have whitespace runs
+     * collapsed, so formatting noise between scrapes is not a change.
+     *
+     * @param event the raw job event
+     * @return the SHA-256 hash as 64 hex characters
+     */
+    static String of(RawJobEvent event) {
+        return hash(event.getTitle(), event.getCompany(), event.getLocation(), event.getDescription());
+    }
+
+    /**
+     * Hash the normalized content of a processed job event, as for raw events.
+     *
+     * @param event the processed job event
+     * @return the SHA-256 hash as 64 hex characters
+     */
+    static String of(ProcessedJobEvent event) {
+        return hash(event.getTitle(), event.getCompany(), event.getLocation(), event.getDescription(),
+                event.getSalary());
+    }
+
+    private static String hash(String... fields) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                content.append(FIELD_SEPARATOR);
+            }
+            content.append(normalize(fields[i]));
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(Normalizer.normalize(value, Normalizer.Form.NFC)).replaceAll(" ").strip();
+    }
+}
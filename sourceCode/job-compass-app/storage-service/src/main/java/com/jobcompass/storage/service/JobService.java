@@ -3,19 +3,43 @@ package com.jobcompass.storage.service;
 import com.jobcompass.common.events.ProcessedJobEvent;
 import com.jobcompass.common.events.RawJobEvent;
 import com.jobcompass.common.model.Source;
+import com.jobcompass.common.util.JobUrls;
+import com.jobcompass.common.util.PostedDates;
+import com.jobcompass.storage.cache.JobPageCache;
+import com.jobcompass.storage.dto.JobCursor;
+import com.jobcompass.storage.dto.JobSearchCriteria;
+import com.jobcompass.storage.dto.JobSearchCursor;
+import com.jobcompass.storage.dto.JobSummary;
 import com.jobcompass.storage.entity.Company;
 import com.jobcompass.storage.entity.Job;
 import com.jobcompass.storage.repository.JobRepository;
+import com.jobcompass.storage.repository.JobRepositoryCustom.RankedJobId;
+import com.jobcompass.storage.repository.JobSpecifications;
+import com.jobcompass.storage.skills.SkillExtractor;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for Job entity operations.
@@ -28,23 +52,42 @@ import java.util.Set;
 @Slf4j
 public class JobService {
 
+    /**
+     * Maximum number of job IDs bound into one IN clause.
+     */
+    private static final int ID_BATCH_SIZE = 1000;
+
     private final JobRepository jobRepository;
     private final CompanyService companyService;
     private final SkillService skillService;
+    private final SkillExtractor skillExtractor;
+    private final EntityManager entityManager;
+    private final JobPageCache jobPageCache;
 
     /**
      * Save or update a job from ProcessedJobEvent.
-     * Implements upsert logic to prevent duplicates based on URL.
+     * Implements upsert logic to prevent duplicates based on source and external ID.
+     * An active job whose content hash is unchanged is only marked as seen.
+     * Otherwise the job's skills are replaced with those extracted from its
+     * title and description, and cached job pages are invalidated once the
+     * transaction commits.
      * 
      * @param event the processed job event
-     * @return the saved or updated job
+     * @return the saved, updated or unchanged job
      */
     @Transactional
     public Job saveOrUpdateJob(ProcessedJobEvent event) {
         log.debug("Processing job: {} at {}", event.getTitle(), event.getCompany());
 
-        // Try to find existing job by URL
-        Optional<Job> existingJob = jobRepository.findByUrl(event.getUrl());
+        // Try to find existing job by its identity within the source
+        Optional<Job> existingJob = jobRepository.findBySourceAndExternalId(event.getSource(), externalId(event));
+        String contentHash = JobContentHash.of(event);
+
+        if (existingJob.isPresent() && isUnchanged(existingJob.get(), contentHash)) {
+            log.debug("Job unchanged, marking as seen: {}", event.getUrl());
+            jobRepository.markSeen(existingJob.get().getId(), LocalDateTime.now());
+            return existingJob.get();
+        }
 
         Job job;
         if (existingJob.isPresent()) {
@@ -62,22 +105,68 @@ public class JobService {
             job.setCompany(company);
         }
 
-        return jobRepository.save(job);
+        jobPageCache.invalidateAllAfterCommit();
+        Job saved = jobRepository.save(job);
+        if (saved.getId() != null) {
+            // job_skills rows reference the job, so it must be written first
+            jobRepository.flush();
+            replaceExtractedSkills(Map.of(saved.getId(), new JobText(event.getTitle(), event.getDescription())));
+        }
+        return saved;
+    }
+
+    /**
+     * Save or update a batch of jobs from ProcessedJobEvents.
+     * Written like {@link #saveRawJobs(List)}: companies are resolved
+     * together, jobs are upserted in bulk on source and external ID, the
+     * last event wins for a repeated job, and active jobs with an unchanged
+     * content hash are only marked as seen.
+     *
+     * @param events the processed job events
+     * @return number of jobs inserted or changed
+     */
+    @Transactional
+    public int saveProcessedJobs(List<ProcessedJobEvent> events) {
+        Map<JobKey, ProcessedJobEvent> eventsByKey = new LinkedHashMap<>();
+        for (ProcessedJobEvent event : events) {
+            if (event == null || event.getUrl() == null || event.getUrl().trim().isEmpty()) {
+                log.warn("Skipping processed job event without URL: {}", event);
+                continue;
+            }
+            eventsByKey.put(new JobKey(event.getSource(), externalId(event)), event);
+        }
+
+        int affected = upsertJobs(eventsByKey.values(), ProcessedJobEvent::getCompany, this::createJobFromEvent,
+                event -> new JobText(event.getTitle(), event.getDescription()));
+        log.info("Upserted {} changed jobs from batch of {} processed events, {} unchanged",
+                affected, events.size(), eventsByKey.size() - affected);
+        return affected;
     }
 
     /**
      * Save or update a job from RawJobEvent.
-     * Implements upsert logic to prevent duplicates based on URL.
+     * Implements upsert logic to prevent duplicates based on source and external ID.
+     * An active job whose content hash is unchanged is only marked as seen.
+     * Otherwise the job's skills are replaced with those extracted from its
+     * title and description, and cached job pages are invalidated once the
+     * transaction commits.
      * 
      * @param event the raw job event from scraper
-     * @return the saved or updated job
+     * @return the saved, updated or unchanged job
      */
     @Transactional
     public Job saveRawJob(RawJobEvent event) {
         log.debug("Processing raw job: {} at {}", event.getTitle(), event.getCompany());
 
-        // Try to find existing job by URL
-        Optional<Job> existingJob = jobRepository.findByUrl(event.getUrl());
+        // Try to find existing job by its identity within the source
+        Optional<Job> existingJob = jobRepository.findBySourceAndExternalId(event.getSource(), externalId(event));
+        String contentHash = JobContentHash.of(event);
+
+        if (existingJob.isPresent() && isUnchanged(existingJob.get(), contentHash)) {
+            log.debug("Job unchanged, marking as seen: {}", event.getUrl());
+            jobRepository.markSeen(existingJob.get().getId(), LocalDateTime.now());
+            return existingJob.get();
+        }
 
         Job job;
         if (existingJob.isPresent()) {
@@ -95,7 +184,95 @@ public class JobService {
             job.setCompany(company);
         }
 
-        return jobRepository.save(job);
+        jobPageCache.invalidateAllAfterCommit();
+        Job saved = jobRepository.save(job);
+        if (saved.getId() != null) {
+            // job_skills rows reference the job, so it must be written first
+            jobRepository.flush();
+            replaceExtractedSkills(Map.of(saved.getId(), new JobText(event.getTitle(), event.getDescription())));
+        }
+        return saved;
+    }
+
+    /**
+     * Save or update a batch of jobs from RawJobEvents.
+     * Companies for the whole batch are resolved together and the jobs are
+     * written with multi-row upserts keyed on source and external ID, so the
+     * cost grows with the number of batches rather than the number of events.
+     * When the same job appears more than once, the last event wins.
+     * Active jobs with an unchanged content hash are only marked as seen.
+     * Inserted and changed jobs get the skills extracted from their title and
+     * description, written for the whole batch at once.
+     * Cached job pages are invalidated once the transaction commits if
+     * any job was inserted or changed.
+     *
+     * @param events the raw job events from scraper
+     * @return number of jobs inserted or changed
+     */
+    @Transactional
+    public int saveRawJobs(List<RawJobEvent> events) {
+        Map<JobKey, RawJobEvent> eventsByKey = new LinkedHashMap<>();
+        for (RawJobEvent event : events) {
+            if (event == null || event.getUrl() == null || event.getUrl().trim().isEmpty()) {
+                log.warn("Skipping raw job event without URL: {}", event);
+                continue;
+            }
+            eventsByKey.put(new JobKey(event.getSource(), externalId(event)), event);
+        }
+
+        int affected = upsertJobs(eventsByKey.values(), RawJobEvent::getCompany, this::createJobFromRawEvent,
+                event -> new JobText(event.getTitle(), event.getDescription()));
+        log.info("Upserted {} changed jobs from batch of {} raw events, {} unchanged",
+                affected, events.size(), eventsByKey.size() - affected);
+        return affected;
+    }
+
+    /**
+     * Upsert the jobs of a batch of events, distinct by job identity.
+     * Companies are resolved together, the jobs are written with multi-row
+     * upserts, and inserted or changed jobs get the skills extracted from
+     * their text, written for the whole batch at once.
+     *
+     * @param events the events, one per job
+     * @param company the company name of an event
+     * @param toJob the job an event describes
+     * @param text the title and description of an event
+     * @return number of jobs inserted or changed
+     */
+    private <E> int upsertJobs(Collection<E> events, Function<E, String> company, Function<E, Job> toJob,
+                               Function<E, JobText> text) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> companyNames = events.stream()
+                .map(company)
+                .collect(Collectors.toSet());
+        Map<String, Company> companies = companyService.findOrCreateCompanies(companyNames);
+
+        List<Job> jobs = new ArrayList<>(events.size());
+        for (E event : events) {
+            Job job = toJob.apply(event);
+            if (company.apply(event) != null) {
+                job.setCompany(companies.get(company.apply(event)));
+            }
+            jobs.add(job);
+        }
+
+        int affected = jobRepository.upsertAll(jobs);
+        if (affected > 0) {
+            Map<Long, JobText> written = new HashMap<>();
+            Iterator<E> batchEvents = events.iterator();
+            for (Job job : jobs) {
+                E event = batchEvents.next();
+                if (job.getId() != null) {
+                    written.put(job.getId(), text.apply(event));
+                }
+            }
+            replaceExtractedSkills(written);
+            jobPageCache.invalidateAllAfterCommit();
+        }
+        return affected;
     }
 
     /**
@@ -109,73 +286,193 @@ public class JobService {
     }
 
     /**
-     * Find a job by URL.
+     * Find a job by URL. Tracking parameters in the URL are ignored.
      * 
      * @param url the job URL
      * @return Optional containing the job if found
      */
     public Optional<Job> findByUrl(String url) {
-        return jobRepository.findByUrl(url);
+        return jobRepository.findByUrl(JobUrls.canonicalize(url));
     }
 
     /**
-     * Find all active jobs.
+     * Find one page of active jobs, newest first.
      * 
-     * @return list of active jobs
+     * @param after the keyset position to continue from, or null for the first page
+     * @param limit maximum number of jobs to return
+     * @return summaries of active jobs
      */
-    public List<Job> findAllActiveJobs() {
-        return jobRepository.findByIsActive(true);
+    public List<JobSummary> findAllActiveJobs(JobCursor after, int limit) {
+        return findActivePage(null, after, limit);
     }
 
     /**
-     * Find recent jobs posted within the last N days.
+     * Find one page of recent jobs posted within the last N days, newest first.
      * 
      * @param days number of days
-     * @return list of recent active jobs
+     * @param after the keyset position to continue from, or null for the first page
+     * @param limit maximum number of jobs to return
+     * @return summaries of recent active jobs
      */
-    public List<Job> findRecentJobs(int days) {
+    public List<JobSummary> findRecentJobs(int days, JobCursor after, int limit) {
         LocalDate startDate = LocalDate.now().minusDays(days);
-        return jobRepository.findRecentJobs(startDate);
+        return findActivePage(JobSpecifications.postedOnOrAfter(startDate), after, limit);
     }
 
     /**
-     * Find jobs by skills.
+     * Find one page of jobs by skills, newest first.
      * 
      * @param skillNames set of skill names
-     * @return list of jobs requiring the specified skills
+     * @param after the keyset position to continue from, or null for the first page
+     * @param limit maximum number of jobs to return
+     * @return summaries of jobs requiring any of the specified skills
      */
-    public List<Job> findBySkills(Set<String> skillNames) {
-        return jobRepository.findBySkills(skillNames);
+    public List<JobSummary> findBySkills(Set<String> skillNames, JobCursor after, int limit) {
+        return findActivePage(JobSpecifications.hasAnySkill(skillNames), after, limit);
     }
 
     /**
-     * Find jobs by location.
+     * Find one page of jobs by location, newest first.
      * 
      * @param location the location keyword
-     * @return list of jobs matching the location
+     * @param after the keyset position to continue from, or null for the first page
+     * @param limit maximum number of jobs to return
+     * @return summaries of jobs matching the location
      */
-    public List<Job> findByLocation(String location) {
-        return jobRepository.findByLocationContainingIgnoreCase(location);
+    public List<JobSummary> findByLocation(String location, JobCursor after, int limit) {
+        return findActivePage(JobSpecifications.locationContains(location), after, limit);
     }
 
     /**
-     * Find jobs by company name.
+     * Find one page of jobs by company name, newest first.
      * 
      * @param companyName the company name keyword
-     * @return list of jobs from matching companies
+     * @param after the keyset position to continue from, or null for the first page
+     * @param limit maximum number of jobs to return
+     * @return summaries of jobs from matching companies
      */
-    public List<Job> findByCompanyName(String companyName) {
-        return jobRepository.findByCompanyNameContainingIgnoreCase(companyName);
+    public List<JobSummary> findByCompanyName(String companyName, JobCursor after, int limit) {
+        return findActivePage(JobSpecifications.companyNameContains(companyName), after, limit);
     }
 
     /**
-     * Find jobs by source.
+     * Find one page of jobs by source, newest first.
      * 
      * @param source the job source
-     * @return list of active jobs from the source
+     * @param after the keyset position to continue from, or null for the first page
+     * @param limit maximum number of jobs to return
+     * @return summaries of active jobs from the source
+     */
+    public List<JobSummary> findBySource(Source source, JobCursor after, int limit) {
+        return findActivePage(JobSpecifications.hasSource(source), after, limit);
+    }
+
+    /**
+     * Find one page of active jobs matching all set criteria, newest first.
+     * 
+     * @param criteria the search criteria
+     * @param after the keyset position to continue from, or null for the first page
+     * @param limit maximum number of jobs to return
+     * @return summaries of matching active jobs
+     */
+    public List<JobSummary> searchJobs(JobSearchCriteria criteria, JobCursor after, int limit) {
+        return findActivePage(JobSpecifications.matching(criteria), after, limit);
+    }
+
+    /**
+     * Full-text search over active jobs matching all set criteria, best match first.
+     * 
+     * @param query free-text query
+     * @param criteria additional filters, may be null
+     * @param after the keyset position to continue from, or null for the first page
+     * @param limit maximum number of jobs to return
+     * @return matching jobs with their rank, best match first
+     */
+    @Transactional(readOnly = true)
+    public List<RankedJob> searchJobs(String query, JobSearchCriteria criteria, JobSearchCursor after, int limit) {
+        List<RankedJobId> hits = jobRepository.searchIds(query, criteria, after, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = hits.stream().map(RankedJobId::id).toList();
+        Map<Long, JobSummary> jobsById = jobRepository.findSummaries(JobSpecifications.idIn(ids), ids.size()).stream()
+            .collect(Collectors.toMap(JobSummary::id, job -> job));
+        List<RankedJob> results = new ArrayList<>(hits.size());
+        for (RankedJobId hit : hits) {
+            JobSummary job = jobsById.get(hit.id());
+            if (job != null) {
+                results.add(new RankedJob(job, hit.rank()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Run a keyset-paginated query over active jobs.
+     * The cost of a page does not depend on how deep the cursor is.
+     * 
+     * @param filter additional restriction, may be null
+     * @param after the keyset position to continue from, or null for the first page
+     * @param limit maximum number of jobs to return
+     * @return job summaries in (posted date, ID) descending order
+     */
+    private List<JobSummary> findActivePage(Specification<Job> filter, JobCursor after, int limit) {
+        Specification<Job> spec = Specification.where(JobSpecifications.isActive())
+            .and(filter)
+            .and(JobSpecifications.after(after));
+        return jobRepository.findSummaries(spec, limit);
+    }
+
+    /**
+     * Stream all active jobs, newest first, handing them to the consumer in chunks.
+     * The persistence context is cleared after each chunk so memory stays flat
+     * regardless of catalog size.
+     * 
+     * @param chunkSize number of jobs per chunk
+     * @param chunkConsumer receives each chunk; runs inside the read-only transaction
+     * @return number of jobs streamed
      */
-    public List<Job> findBySource(Source source) {
-        return jobRepository.findBySourceAndIsActive(source, true);
+    @Transactional(readOnly = true)
+    public long streamActiveJobs(int chunkSize, Consumer<List<Job>> chunkConsumer) {
+        long streamed = 0;
+        List<Job> chunk = new ArrayList<>(chunkSize);
+        try (Stream<Job> jobs = jobRepository.streamActiveJobs()) {
+            Iterator<Job> iterator = jobs.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    streamed += chunk.size();
+                    chunk = new ArrayList<>(chunkSize);
+                    entityManager.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(chunk);
+            streamed += chunk.size();
+        }
+        return streamed;
+    }
+
+    /**
+     * Find skill names for many jobs with grouped queries instead of
+     * initializing each job's skills collection.
+     * 
+     * @param jobIds the job IDs
+     * @return skill names by job ID; jobs without skills are absent
+     */
+    public Map<Long, Set<String>> findSkillNamesByJobIds(Collection<Long> jobIds) {
+        Map<Long, Set<String>> skillNames = new HashMap<>();
+        List<Long> ids = List.copyOf(jobIds);
+        for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+            for (Object[] row : jobRepository.findSkillNamesByJobIds(chunk)) {
+                skillNames.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+            }
+        }
+        return skillNames;
     }
 
     /**
@@ -189,6 +486,7 @@ public class JobService {
             log.info("Deactivating job: {} - {}", job.getId(), job.getTitle());
             job.setIsActive(false);
             jobRepository.save(job);
+            jobPageCache.invalidateAllAfterCommit();
         });
     }
 
@@ -202,12 +500,16 @@ public class JobService {
         return Job.builder()
                 .title(event.getTitle())
                 .location(event.getLocation())
-                .url(event.getUrl())
+                .url(JobUrls.canonicalize(event.getUrl()))
+                .description(event.getDescription())
                 .salaryRange(event.getSalary())
-                .postedDate(event.getPostedDate() != null ? event.getPostedDate().toLocalDate() : null)
+                .externalId(externalId(event))
+                .postedDate(event.getPostedDate() != null ? event.getPostedDate().toLocalDate() : LocalDate.now())
                 .jobAgeDays(event.getJobAgeInDays())
                 .source(event.getSource())
                 .scrapedAt(LocalDateTime.now())
+                .contentHash(JobContentHash.of(event))
+                .lastSeenAt(LocalDateTime.now())
                 .isActive(true)
                 .build();
     }
@@ -220,11 +522,19 @@ public class JobService {
      */
     private void updateJobFromEvent(Job job, ProcessedJobEvent event) {
         job.setTitle(event.getTitle());
+        job.setUrl(JobUrls.canonicalize(event.getUrl()));
         job.setLocation(event.getLocation());
         job.setSalaryRange(event.getSalary());
-        job.setPostedDate(event.getPostedDate() != null ? event.getPostedDate().toLocalDate() : null);
+        if (event.getPostedDate() != null) {
+            job.setPostedDate(event.getPostedDate().toLocalDate());
+        }
         job.setJobAgeDays(event.getJobAgeInDays());
         job.setScrapedAt(LocalDateTime.now());
+        if (event.getDescription() != null) {
+            job.setDescription(event.getDescription());
+        }
+        job.setContentHash(JobContentHash.of(event));
+        job.setLastSeenAt(LocalDateTime.now());
         // Keep the job active when updating
         job.setIsActive(true);
     }
@@ -236,29 +546,30 @@ public class JobService {
      * @return new job entity
      */
     private Job createJobFromRawEvent(RawJobEvent event) {
-        Job.JobBuilder jobBuilder = Job.builder()
+        LocalDateTime scrapedAt = event.getScrapedAt() != null ? event.getScrapedAt() : LocalDateTime.now();
+
+        // ISO dates, relative phrases such as "2 days ago" counted back from the
+        // scrape time, or today when not understood
+        LocalDateTime posted = PostedDates.parse(event.getPostedDate(), scrapedAt);
+        LocalDate postedDate = posted != null ? posted.toLocalDate() : null;
+        if (postedDate == null) {
+            log.debug("Unrecognized posted date, using today: {}", event.getPostedDate());
+            postedDate = LocalDate.now();
+        }
+
+        return Job.builder()
                 .title(event.getTitle())
                 .location(event.getLocation())
-                .url(event.getUrl())
+                .url(JobUrls.canonicalize(event.getUrl()))
+                .externalId(externalId(event))
                 .description(event.getDescription())
                 .source(event.getSource())
-                .scrapedAt(event.getScrapedAt() != null ? event.getScrapedAt() : LocalDateTime.now())
-                .isActive(true);
-
-        // Parse posted date
-        if (event.getPostedDate() != null) {
-            try {
-                // Assuming format YYYY-MM-DD from scraper
-                jobBuilder.postedDate(LocalDate.parse(event.getPostedDate()));
-            } catch (Exception e) {
-                log.warn("Failed to parse posted date: {}", event.getPostedDate());
-                jobBuilder.postedDate(LocalDate.now());
-            }
-        } else {
-            jobBuilder.postedDate(LocalDate.now());
-        }
-
-        return jobBuilder.build();
+                .scrapedAt(scrapedAt)
+                .postedDate(postedDate)
+                .contentHash(JobContentHash.of(event))
+                .lastSeenAt(LocalDateTime.now())
+                .isActive(true)
+                .build();
     }
 
     /**
@@ -269,10 +580,102 @@ public class JobService {
      */
     private void updateJobFromRawEvent(Job job, RawJobEvent event) {
         job.setTitle(event.getTitle());
+        job.setUrl(JobUrls.canonicalize(event.getUrl()));
         job.setLocation(event.getLocation());
         job.setDescription(event.getDescription());
         job.setScrapedAt(event.getScrapedAt() != null ? event.getScrapedAt() : LocalDateTime.now());
+        job.setContentHash(JobContentHash.of(event));
+        job.setLastSeenAt(LocalDateTime.now());
         // Keep the job active when updating
         job.setIsActive(true);
     }
+
+    /**
+     * Replace the skills of written jobs with those extracted from their
+     * title and description. Skill IDs for all jobs are resolved together.
+     * 
+     * @param textByJobId the text each job was written from, by job ID
+     */
+    private void replaceExtractedSkills(Map<Long, JobText> textByJobId) {
+        if (textByJobId.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Set<String>> namesByJobId = new HashMap<>();
+        Set<String> allNames = new HashSet<>();
+        textByJobId.forEach((jobId, text) -> {
+            Set<String> names = new HashSet<>(skillExtractor.extract(text.title()));
+            names.addAll(skillExtractor.extract(text.description()));
+            namesByJobId.put(jobId, names);
+            allNames.addAll(names);
+        });
+
+        Map<String, Long> skillIds = skillService.findOrCreateSkillIds(allNames);
+        Map<Long, Set<Long>> skillIdsByJobId = new HashMap<>();
+        namesByJobId.forEach((jobId, names) -> skillIdsByJobId.put(jobId, names.stream()
+                .map(skillIds::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())));
+        jobRepository.replaceSkills(skillIdsByJobId);
+    }
+
+    /**
+     * Identity of a raw job within its source: the external ID set by the
+     * scraper, or one derived from the URL for events that carry none.
+     * 
+     * @param event the raw job event
+     * @return the external ID
+     */
+    private static String externalId(RawJobEvent event) {
+        return event.getExternalId() != null ? event.getExternalId() : JobUrls.externalId(event.getUrl());
+    }
+
+    /**
+     * Identity of a processed job within its source, as for raw jobs.
+     * 
+     * @param event the processed job event
+     * @return the external ID
+     */
+    private static String externalId(ProcessedJobEvent event) {
+        return event.getExternalId() != null ? event.getExternalId() : JobUrls.externalId(event.getUrl());
+    }
+
+    /**
+     * Check whether a re-scraped job can skip the update.
+     * Inactive jobs are always updated so they are reactivated.
+     * 
+     * @param job the existing job
+     * @param contentHash hash of the re-scraped content
+     * @return true if the job is active and its content is unchanged
+     */
+    private boolean isUnchanged(Job job, String contentHash) {
+        return Boolean.TRUE.equals(job.getIsActive()) && contentHash.equals(job.getContentHash());
+    }
+
+    /**
+     * Identity of a job within a batch.
+     * 
+     * @param source the job source
+     * @param externalId the job's external ID
+     */
+    private record JobKey(Source source, String externalId) {
+    }
+
+    /**
+     * The text skills are extracted from.
+     * 
+     * @param title the job title
+     * @param description the job description
+     */
+    private record JobText(String title, String description) {
+    }
+
+    /**
+     * A full-text search result.
+     * 
+     * @param job the matching job
+     * @param rank the relevance rank
+     */
+    public record RankedJob(JobSummary job, float rank) {
+    }
 }
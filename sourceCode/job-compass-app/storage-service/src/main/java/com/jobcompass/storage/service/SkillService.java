@@ -1,15 +1,22 @@
 package com.jobcompass.storage.service;
 
+import com.jobcompass.storage.cache.SkillDictionary;
 import com.jobcompass.storage.entity.Skill;
 import com.jobcompass.storage.entity.enums.SkillCategory;
 import com.jobcompass.storage.repository.SkillRepository;
+import com.jobcompass.storage.skills.SeedSkills.SeedSkill;
+import com.jobcompass.storage.skills.SkillExtractor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Skill entity operations.
@@ -23,6 +30,8 @@ import java.util.Set;
 public class SkillService {
 
     private final SkillRepository skillRepository;
+    private final SkillDictionary skillDictionary;
+    private final SkillExtractor skillExtractor;
 
     /**
      * Find or create a skill by name.
@@ -49,27 +58,67 @@ public class SkillService {
     }
 
     /**
-     * Find or create multiple skills by names.
+     * Resolve skill names to IDs, creating missing skills.
+     * Known names are answered from the skill dictionary without a query.
      * 
      * @param skillNames set of skill names
-     * @return set of existing or newly created skills
+     * @return skill ID by name
      */
     @Transactional
-    public Set<Skill> findOrCreateSkills(Set<String> skillNames) {
+    public Map<String, Long> findOrCreateSkillIds(Set<String> skillNames) {
         if (skillNames == null || skillNames.isEmpty()) {
-            return new HashSet<>();
+            return new HashMap<>();
         }
 
-        Set<Skill> skills = new HashSet<>();
-        for (String skillName : skillNames) {
-            if (skillName != null && !skillName.trim().isEmpty()) {
-                Skill skill = findOrCreateSkill(skillName, null);
-                if (skill != null) {
-                    skills.add(skill);
-                }
+        Map<String, Long> ids = skillDictionary.idsOf(skillNames);
+        Set<String> unknown = skillNames.stream()
+            .filter(name -> !ids.containsKey(name))
+            .collect(Collectors.toSet());
+        if (unknown.isEmpty()) {
+            return ids;
+        }
+
+        Map<String, Long> created = skillRepository.insertMissing(unknown);
+        if (!created.isEmpty()) {
+            log.info("Created {} new skills: {}", created.size(), created.keySet());
+        }
+        ids.putAll(created);
+        skillDictionary.putAllAfterCommit(created);
+
+        // Inserted concurrently or missing from the dictionary
+        unknown.removeAll(created.keySet());
+        if (!unknown.isEmpty()) {
+            Map<String, Long> existing = new HashMap<>();
+            for (Skill skill : skillRepository.findByNameIn(unknown)) {
+                existing.put(skill.getName(), skill.getId());
             }
+            ids.putAll(existing);
+            skillDictionary.putAll(existing);
+        }
+        return ids;
+    }
+
+    /**
+     * Insert the seed skills with their categories, then preload the skill
+     * dictionary once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadSkillDictionary() {
+        Map<String, SkillCategory> seedCategories = new HashMap<>();
+        for (SeedSkill seed : skillExtractor.seedSkills()) {
+            seedCategories.put(seed.name(), seed.category());
+        }
+        Map<String, Long> seeded = skillRepository.insertWithCategories(seedCategories);
+        if (!seeded.isEmpty()) {
+            log.info("Seeded {} skills", seeded.size());
         }
 
-        return skills;
+        Map<String, Long> ids = new HashMap<>();
+        for (Skill skill : skillRepository.findAll()) {
+            ids.put(skill.getName(), skill.getId());
+        }
+        skillDictionary.putAll(ids);
+        log.info("Loaded {} skills into the skill dictionary", ids.size());
     }
 }
@@ -0,0 +1,75 @@
+package com.jobcompass.storage.skills;
+
+import com.jobcompass.storage.entity.enums.SkillCategory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The bundled seed skill dictionary, {@code skills/seed-skills.csv}.
+ * Each line is {@code name,category[,alias|alias...]}; blank lines and
+ * lines starting with {@code #} are ignored.
+ *
+ * @author Palrajjayaraj
+ */
+public final class SeedSkills {
+
+    static final String LOCATION = "skills/seed-skills.csv";
+
+    private SeedSkills() {
+    }
+
+    /**
+     * Load the bundled seed dictionary.
+     *
+     * @return the seed skills in file order
+     */
+    public static List<SeedSkill> load() {
+        return load(new ClassPathResource(LOCATION));
+    }
+
+    static List<SeedSkill> load(Resource resource) {
+        List<SeedSkill> skills = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",", 3);
+                if (fields.length < 2) {
+                    throw new IllegalStateException("Malformed seed skill at " + LOCATION + ":" + number + ": " + line);
+                }
+                List<String> aliases = fields.length == 3
+                        ? Arrays.stream(fields[2].split("\\|")).map(String::trim).filter(alias -> !alias.isEmpty()).toList()
+                        : List.of();
+                skills.add(new SeedSkill(fields[0].trim(), SkillCategory.valueOf(fields[1].trim()), aliases));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read seed skills from " + LOCATION, e);
+        }
+        return skills;
+    }
+
+    /**
+     * A seed skill.
+     *
+     * @param name     the canonical skill name stored in the skills table
+     * @param category the skill category
+     * @param aliases  other spellings that map to the skill
+     */
+    public record SeedSkill(String name, SkillCategory category, List<String> aliases) {
+    }
+}
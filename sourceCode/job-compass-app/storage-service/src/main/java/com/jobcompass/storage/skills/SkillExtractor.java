@@ -0,0 +1,140 @@
+package com.jobcompass.storage.skills;
+
+import com.jobcompass.storage.cache.SkillDictionary;
+import com.jobcompass.storage.skills.SeedSkills.SeedSkill;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Extracts skill names from job text with a {@link SkillMatcher} built from
+ * the seed dictionary and every skill in the skill dictionary.
+ * The matcher is built on first use. When the skill dictionary gains new
+ * names, a replacement is built on a background thread while extraction
+ * keeps using the current matcher, so ingest never waits for a rebuild.
+ *
+ * @author Palrajjayaraj
+ */
+@Component
+@Slf4j
+public class SkillExtractor {
+
+    /**
+     * Skill names shorter than this are too ambiguous to match in free text.
+     */
+    static final int MIN_NAME_LENGTH = 2;
+
+    private final SkillDictionary skillDictionary;
+    private final List<SeedSkill> seedSkills;
+    private final Executor rebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile Built built;
+
+    @Autowired
+    public SkillExtractor(SkillDictionary skillDictionary) {
+        this(skillDictionary, SeedSkills.load(), Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "skill-matcher-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    SkillExtractor(SkillDictionary skillDictionary, List<SeedSkill> seedSkills, Executor rebuildExecutor) {
+        this.skillDictionary = skillDictionary;
+        this.seedSkills = seedSkills;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    /**
+     * Find the skills mentioned in a text in one pass.
+     *
+     * @param text the text to scan, may be null
+     * @return canonical names of the skills found
+     */
+    public Set<String> extract(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        return matcher().match(text);
+    }
+
+    /**
+     * @return the seed skills the matcher is built from
+     */
+    public List<SeedSkill> seedSkills() {
+        return seedSkills;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (rebuildExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private SkillMatcher matcher() {
+        Built current = built;
+        if (current == null) {
+            synchronized (this) {
+                if (built == null) {
+                    built = build();
+                }
+                return built.matcher();
+            }
+        }
+        if (current.version() != skillDictionary.version() && rebuilding.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    built = build();
+                } catch (RuntimeException e) {
+                    log.error("Failed to rebuild skill matcher: {}", e.getMessage(), e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+        return current.matcher();
+    }
+
+    private Built build() {
+        long started = System.nanoTime();
+        // Read the version first so names added during the build trigger another one
+        long version = skillDictionary.version();
+
+        // Seed entries first, so they win when a stored name folds to the same pattern
+        Map<String, String> skillByPattern = new LinkedHashMap<>();
+        for (SeedSkill seed : seedSkills) {
+            skillByPattern.put(seed.name(), seed.name());
+            for (String alias : seed.aliases()) {
+                skillByPattern.put(alias, seed.name());
+            }
+        }
+        for (String name : skillDictionary.names()) {
+            if (name.trim().length() >= MIN_NAME_LENGTH) {
+                skillByPattern.putIfAbsent(name, name);
+            }
+        }
+
+        SkillMatcher matcher = SkillMatcher.build(skillByPattern);
+        log.info("Built skill matcher with {} patterns in {} ms",
+                matcher.size(), (System.nanoTime() - started) / 1_000_000);
+        return new Built(matcher, version);
+    }
+
+    /**
+     * A matcher and the dictionary version it was built from.
+     */
+    private record Built(SkillMatcher matcher, long version) {
+    }
+}
@@ -0,0 +1,265 @@
+package com.jobcompass.storage.skills;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable Aho-Corasick automaton over skill names and aliases.
+ * All patterns are found in one left-to-right pass over the text, so the
+ * cost of matching grows with the text length and not with the size of the
+ * dictionary. Matching is case-insensitive, runs of whitespace match a
+ * single space, and a pattern that starts or ends with a letter or digit
+ * only matches on a word boundary, so "Java" is not found in "JavaScript".
+ * Instances are safe to share between threads.
+ *
+ * @author Palrajjayaraj
+ */
+public final class SkillMatcher {
+
+    private static final int ROOT = 0;
+
+    /**
+     * Character class for characters that occur in no pattern.
+     */
+    private static final int OTHER = 0;
+
+    /**
+     * Character class of each folded character.
+     */
+    private final char[] charClasses;
+
+    /**
+     * Number of character classes; the row width of the transition table.
+     */
+    private final int width;
+
+    /**
+     * Complete transition function, next state = transitions[state * width + class].
+     */
+    private final int[] transitions;
+
+    /**
+     * Patterns ending in each state, including those reached through failure links.
+     */
+    private final int[][] outputs;
+
+    private final int[] patternLengths;
+    private final boolean[] checkStart;
+    private final boolean[] checkEnd;
+    private final String[] skillNames;
+
+    /**
+     * Length of the longest pattern.
+     */
+    private final int maxLength;
+
+    private SkillMatcher(char[] charClasses, int width, int[] transitions, int[][] outputs,
+                         int[] patternLengths, boolean[] checkStart, boolean[] checkEnd, String[] skillNames) {
+        this.charClasses = charClasses;
+        this.width = width;
+        this.transitions = transitions;
+        this.outputs = outputs;
+        this.patternLengths = patternLengths;
+        this.checkStart = checkStart;
+        this.checkEnd = checkEnd;
+        this.skillNames = skillNames;
+        this.maxLength = Math.max(1, Arrays.stream(patternLengths).max().orElse(1));
+    }
+
+    /**
+     * Build a matcher.
+     * Patterns are trimmed and their inner whitespace collapsed; blank
+     * patterns are ignored. When two patterns fold to the same text, the
+     * first one wins.
+     *
+     * @param skillByPattern skill name to report, by pattern text
+     * @return the matcher
+     */
+    public static SkillMatcher build(Map<String, String> skillByPattern) {
+        Map<String, String> patterns = new LinkedHashMap<>();
+        skillByPattern.forEach((pattern, skill) -> {
+            String folded = pattern != null ? fold(pattern) : "";
+            if (!folded.isEmpty() && skill != null) {
+                patterns.putIfAbsent(folded, skill);
+            }
+        });
+
+        char[] charClasses = new char[Character.MAX_VALUE + 1];
+        int width = 1;
+        for (String pattern : patterns.keySet()) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (charClasses[c] == OTHER) {
+                    charClasses[c] = (char) width++;
+                }
+            }
+        }
+
+        // Trie
+        List<Map<Integer, Integer>> children = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        children.add(new HashMap<>());
+        ends.add(new ArrayList<>());
+
+        int count = patterns.size();
+        int[] patternLengths = new int[count];
+        boolean[] checkStart = new boolean[count];
+        boolean[] checkEnd = new boolean[count];
+        String[] skillNames = new String[count];
+
+        int id = 0;
+        for (Map.Entry<String, String> entry : patterns.entrySet()) {
+            String pattern = entry.getKey();
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                int charClass = charClasses[pattern.charAt(i)];
+                Integer next = children.get(state).get(charClass);
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(charClass, next);
+                    children.add(new HashMap<>());
+                    ends.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            ends.get(state).add(id);
+            patternLengths[id] = pattern.length();
+            checkStart[id] = isWordChar(pattern.charAt(0));
+            checkEnd[id] = isWordChar(pattern.charAt(pattern.length() - 1));
+            skillNames[id] = entry.getValue();
+            id++;
+        }
+
+        // Failure links in breadth-first order, folded into a complete transition table
+        int states = children.size();
+        int[] transitions = new int[states * width];
+        int[] failure = new int[states];
+        int[][] outputs = new int[states][];
+        outputs[ROOT] = new int[0];
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (Map.Entry<Integer, Integer> child : children.get(ROOT).entrySet()) {
+            transitions[child.getKey()] = child.getValue();
+            failure[child.getValue()] = ROOT;
+            queue.add(child.getValue());
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = merge(ends.get(state), outputs[failure[state]]);
+            for (int charClass = 0; charClass < width; charClass++) {
+                Integer child = children.get(state).get(charClass);
+                if (child == null) {
+                    transitions[state * width + charClass] = transitions[failure[state] * width + charClass];
+                } else {
+                    transitions[state * width + charClass] = child;
+                    failure[child] = transitions[failure[state] * width + charClass];
+                    queue.add(child);
+                }
+            }
+        }
+
+        return new SkillMatcher(charClasses, width, transitions, outputs,
+                patternLengths, checkStart, checkEnd, skillNames);
+    }
+
+    /**
+     * Find the skills mentioned in a text.
+     *
+     * @param text the text to scan, may be null
+     * @return names of the skills found
+     */
+    public Set<String> match(CharSequence text) {
+        Set<String> found = new HashSet<>();
+        if (text == null || skillNames.length == 0) {
+            return found;
+        }
+
+        // Text index of each of the last maxLength consumed characters
+        int[] positions = new int[maxLength];
+        long consumed = 0;
+        int state = ROOT;
+        boolean lastSpace = false;
+
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = foldChar(text.charAt(i));
+            if (c == ' ') {
+                if (lastSpace) {
+                    continue;
+                }
+                lastSpace = true;
+            } else {
+                lastSpace = false;
+            }
+            positions[(int) (consumed % maxLength)] = i;
+            consumed++;
+
+            state = transitions[state * width + charClasses[c]];
+            for (int pattern : outputs[state]) {
+                String skill = skillNames[pattern];
+                if (found.contains(skill)) {
+                    continue;
+                }
+                int start = positions[(int) ((consumed - patternLengths[pattern]) % maxLength)];
+                if (checkStart[pattern] && start > 0 && isWordChar(text.charAt(start - 1))) {
+                    continue;
+                }
+                if (checkEnd[pattern] && i + 1 < length && isWordChar(text.charAt(i + 1))) {
+                    continue;
+                }
+                found.add(skill);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return number of distinct patterns
+     */
+    public int size() {
+        return skillNames.length;
+    }
+
+    private static int[] merge(List<Integer> own, int[] inherited) {
+        int[] merged = new int[own.size() + inherited.length];
+        for (int i = 0; i < own.size(); i++) {
+            merged[i] = own.get(i);
+        }
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+
+    /**
+     * Fold a pattern the same way the text is folded while matching.
+     */
+    private static String fold(String pattern) {
+        StringBuilder folded = new StringBuilder(pattern.length());
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = foldChar(pattern.charAt(i));
+            if (c != ' ' || (!folded.isEmpty() && folded.charAt(folded.length() - 1) != ' ')) {
+                folded.append(c);
+            }
+        }
+        int end = folded.length();
+        while (end > 0 && folded.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return folded.substring(0, end);
+    }
+
+    private static char foldChar(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
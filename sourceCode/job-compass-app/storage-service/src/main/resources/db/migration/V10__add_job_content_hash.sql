@@ -0,0 +1,15 @@
+-- Change detection for re-scraped postings.
+-- content_hash is a SHA-256 of the normalized scraped content. A re-scrape
+-- with the same hash only sets last_seen_at, so unchanged postings do not
+-- rewrite the description, fire the search_vector trigger or bump updated_at.
+ALTER TABLE jobs ADD COLUMN content_hash VARCHAR(64);
+
+-- When the posting was last seen by a scraper, changed or not.
+-- Existing rows start with a NULL hash and get one on their next re-scrape.
+ALTER TABLE jobs ADD COLUMN last_seen_at TIMESTAMP;
+UPDATE jobs SET last_seen_at = scraped_at;
+ALTER TABLE jobs ALTER COLUMN last_seen_at SET NOT NULL;
+
+-- last_seen_at is not indexed, so the touch is a heap-only (HOT) update when
+-- the page has room. Leave free space in each page for it.
+ALTER TABLE jobs SET (fillfactor = 90);
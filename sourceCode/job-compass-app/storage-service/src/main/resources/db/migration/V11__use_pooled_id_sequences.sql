@@ -0,0 +1,15 @@
+-- Hibernate cannot batch inserts into IDENTITY columns, because it must
+-- read each generated key back. The entities now take IDs from the
+-- BIGSERIAL sequences with a pooled optimizer: one nextval reserves the
+-- 50 IDs ending at the returned value, so Hibernate assigns IDs in memory
+-- and can send the inserts as JDBC batches.
+-- INCREMENT BY must equal allocationSize in the entity mappings.
+--
+-- The JDBC bulk inserts reserve their IDs the same way (PooledIds), so
+-- they cannot collide with Hibernate-assigned IDs and a row does not use
+-- up a whole block. The columns keep their nextval() defaults for inserts
+-- outside the application.
+ALTER SEQUENCE jobs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE companies_id_seq INCREMENT BY 50;
+ALTER SEQUENCE skills_id_seq INCREMENT BY 50;
+ALTER SEQUENCE job_applications_id_seq INCREMENT BY 50;
@@ -0,0 +1,92 @@
+-- A posting is identified by (source, external_id) instead of its URL.
+-- external_id is the site's job id (LinkedIn's numeric id) or, for URLs
+-- without one, a hash of the canonical URL. URLs carry per-session tracking
+-- parameters, so the same posting arrived under many URLs.
+
+-- URLs are no longer unique: duplicates of one posting are collapsed below
+-- and keep their row, and lookups by URL remain indexed.
+ALTER TABLE jobs DROP CONSTRAINT jobs_url_key;
+DROP INDEX idx_job_url;
+CREATE INDEX idx_job_url ON jobs(url);
+
+-- external_id alone is not unique across sources
+DROP INDEX idx_job_external_id;
+
+-- Backfill LinkedIn job ids. When several rows are the same posting, the
+-- most recently scraped one takes the id and the canonical URL, and the
+-- others are deactivated. Applications stay on the row they were made for.
+WITH ids AS (
+    SELECT id, source, scraped_at,
+           substring(url from '(?:/jobs/view/(?:[^/?#]*-)?|[?&]currentJobId=)([0-9]{6,})') AS job_id
+    FROM jobs
+    WHERE external_id IS NULL AND url ~* '^https?://([^/?#]*\.)?linkedin\.com([/?#:]|$)'
+), ranked AS (
+    SELECT id, job_id,
+           row_number() OVER (PARTITION BY source, job_id ORDER BY scraped_at DESC, id DESC) AS rn
+    FROM ids
+    WHERE job_id IS NOT NULL
+), keepers AS (
+    UPDATE jobs SET external_id = ranked.job_id,
+                    url = 'https://www.linkedin.com/jobs/view/' || ranked.job_id
+    FROM ranked
+    WHERE jobs.id = ranked.id AND ranked.rn = 1
+)
+UPDATE jobs SET is_active = FALSE
+FROM ranked
+WHERE jobs.id = ranked.id AND ranked.rn > 1;
+
+-- Backfill the other rows with a SHA-256 of the canonical URL, as
+-- JobUrls.externalId computes it: scheme and host lower-cased, trailing
+-- slash, fragment and tracking parameters dropped. The most recently scraped
+-- row of a posting takes the id and the canonical URL. Rows whose URL
+-- java.net.URI would reject (spaces, control or unsafe characters, broken
+-- escapes, a scheme with nothing after it) are skipped rather than guessed
+-- at, and deactivated below.
+CREATE EXTENSION IF NOT EXISTS pgcrypto;
+
+WITH parts AS (
+    SELECT id, source, scraped_at, btrim(url) AS url,
+           regexp_match(btrim(url), '^([A-Za-z][A-Za-z0-9+.-]*)://([^/?#]+)([^?#]*)(?:\?([^#]*))?') AS p
+    FROM jobs
+    WHERE external_id IS NULL AND btrim(url) <> ''
+      AND btrim(url) !~ '[[:space:][:cntrl:]"<>\\^`{|}\[\]]'
+      AND btrim(url) !~ '%([^0-9A-Fa-f]|.[^0-9A-Fa-f]|.?$)'
+      AND btrim(url) !~ '#.*#'
+      AND btrim(url) !~ '^(:|[A-Za-z][A-Za-z0-9+.-]*:(//)?$)'
+      AND NOT (url ~* '^https?://([^/?#]*\.)?linkedin\.com([/?#:]|$)'
+               AND url ~ '(/jobs/view/([^/?#]*-)?|[?&]currentJobId=)[0-9]{6,}')
+), canonical AS (
+    SELECT id, source, scraped_at,
+           CASE WHEN p IS NULL THEN url
+                ELSE lower(p[1]) || '://' || lower(p[2]) || regexp_replace(p[3], '/$', '')
+                     || coalesce('?' || nullif((
+                            SELECT string_agg(param, '&' ORDER BY n)
+                            FROM unnest(string_to_array(p[4], '&')) WITH ORDINALITY AS query(param, n)
+                            WHERE param <> ''
+                              AND lower(split_part(param, '=', 1)) NOT LIKE 'utm\_%'
+                              AND lower(split_part(param, '=', 1)) NOT IN
+                                  ('refid', 'trackingid', 'trk', 'trkinfo', 'position', 'pagenum', 'lipi', 'gclid', 'fbclid')
+                        ), ''), '')
+           END AS url
+    FROM parts
+), hashed AS (
+    SELECT id, source, scraped_at, url, encode(digest(url, 'sha256'), 'hex') AS hash
+    FROM canonical
+), ranked AS (
+    SELECT id, url, hash,
+           row_number() OVER (PARTITION BY source, hash ORDER BY scraped_at DESC, id DESC) AS rn
+    FROM hashed
+)
+UPDATE jobs SET external_id = ranked.hash,
+                url = ranked.url
+FROM ranked
+WHERE jobs.id = ranked.id AND ranked.rn = 1;
+
+-- Rows still without an id (duplicates, blank or invalid URLs) are
+-- deactivated, so the upsert cannot bring their posting back as a second
+-- active row.
+UPDATE jobs SET is_active = FALSE WHERE external_id IS NULL;
+
+-- Upserts resolve conflicts on this index
+DROP INDEX idx_job_source_external;
+CREATE UNIQUE INDEX idx_job_source_external ON jobs(source, external_id);
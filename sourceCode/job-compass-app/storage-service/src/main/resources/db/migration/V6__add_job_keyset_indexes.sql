@@ -0,0 +1,14 @@
+-- Keyset pagination sorts jobs by (posted_date DESC, id DESC).
+-- Backfill missing posted dates so every job has a stable sort key.
+UPDATE jobs SET posted_date = CAST(scraped_at AS DATE) WHERE posted_date IS NULL;
+
+ALTER TABLE jobs ALTER COLUMN posted_date SET NOT NULL;
+
+-- Composite index for listing active jobs, newest first
+CREATE INDEX idx_job_active_posted_id ON jobs(is_active, posted_date DESC, id DESC);
+
+-- Composite index for listing active jobs of one source, newest first
+CREATE INDEX idx_job_source_active_posted_id ON jobs(source, is_active, posted_date DESC, id DESC);
+
+-- is_active is the leading column of idx_job_active_posted_id
+DROP INDEX idx_job_is_active;
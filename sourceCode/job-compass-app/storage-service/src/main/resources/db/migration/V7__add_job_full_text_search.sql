@@ -0,0 +1,42 @@
+-- Full-text search over job title, company name and description.
+-- A generated column cannot read the company name from another table,
+-- so search_vector is maintained by triggers instead.
+ALTER TABLE jobs ADD COLUMN search_vector TSVECTOR;
+
+-- Weighted document: title (A) ranks above company (B) above description (C)
+CREATE FUNCTION jobs_search_vector(TEXT, BIGINT, TEXT) RETURNS TSVECTOR AS $$
+    SELECT setweight(to_tsvector('english', coalesce($1, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce((SELECT c.name FROM companies c WHERE c.id = $2), '')), 'B')
+        || setweight(to_tsvector('english', coalesce($3, '')), 'C')
+$$ LANGUAGE SQL STABLE;
+
+CREATE FUNCTION jobs_search_vector_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := jobs_search_vector(NEW.title, NEW.company_id, NEW.description);
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_jobs_search_vector
+    BEFORE INSERT OR UPDATE OF title, description, company_id ON jobs
+    FOR EACH ROW EXECUTE FUNCTION jobs_search_vector_trigger();
+
+-- Keep job documents in sync when a company is renamed
+CREATE FUNCTION companies_search_vector_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE jobs SET search_vector = jobs_search_vector(title, company_id, description)
+    WHERE company_id = NEW.id;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_companies_search_vector
+    AFTER UPDATE OF name ON companies
+    FOR EACH ROW WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION companies_search_vector_trigger();
+
+-- Backfill existing jobs
+UPDATE jobs SET search_vector = jobs_search_vector(title, company_id, description);
+
+-- Create GIN index for @@ matches
+CREATE INDEX idx_job_search_vector ON jobs USING GIN (search_vector);
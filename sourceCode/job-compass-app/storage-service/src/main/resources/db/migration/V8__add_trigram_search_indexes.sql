@@ -0,0 +1,14 @@
+-- Substring search on location and company name uses LOWER(column) LIKE '%term%'.
+-- B-tree indexes cannot serve a leading wildcard; trigram GIN indexes can.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Create trigram index for location substring search
+CREATE INDEX idx_job_location_trgm ON jobs USING GIN (LOWER(location) gin_trgm_ops);
+
+-- Create trigram index for company name substring search
+CREATE INDEX idx_company_name_trgm ON companies USING GIN (LOWER(name) gin_trgm_ops);
+
+-- Neither b-tree index serves any query: substring search now uses the trigram
+-- indexes and exact name lookups use the UNIQUE constraint index on companies(name)
+DROP INDEX idx_job_location;
+DROP INDEX idx_company_name;
@@ -0,0 +1,21 @@
+-- Every listing and search filters on is_active = TRUE. Partial indexes keep
+-- inactive postings out of the index entirely, so they stay small as old
+-- postings are deactivated, and serve the common filter combinations.
+
+-- Replace the composite keyset indexes with partial ones
+DROP INDEX idx_job_active_posted_id;
+CREATE INDEX idx_job_active_posted_id ON jobs(posted_date DESC, id DESC) WHERE is_active = TRUE;
+
+DROP INDEX idx_job_source_active_posted_id;
+CREATE INDEX idx_job_source_active_posted_id ON jobs(source, posted_date DESC, id DESC) WHERE is_active = TRUE;
+
+-- Company filter: active jobs of the companies matching the name
+CREATE INDEX idx_job_active_company_id ON jobs(company_id) WHERE is_active = TRUE;
+
+-- Location filter
+DROP INDEX idx_job_location_trgm;
+CREATE INDEX idx_job_location_trgm ON jobs USING GIN (LOWER(location) gin_trgm_ops) WHERE is_active = TRUE;
+
+-- Skill filter: EXISTS over job_skills by skill_id, then job_id
+CREATE INDEX idx_job_skills_skill_job ON job_skills(skill_id, job_id);
+DROP INDEX idx_job_skills_skill_id;
@@ -0,0 +1,99 @@
+package com.jobcompass.storage.cache;
+
+import com.jobcompass.storage.dto.JobDto;
+import com.jobcompass.storage.dto.JobPageDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JobPageCache keys, loading and invalidation.
+ *
+ * @author Palrajjayaraj
+ */
+class JobPageCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JobPageCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new JobPageCache(meterRegistry, DataSize.ofMegabytes(1), Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGet_SecondReadIsServedFromCache() {
+        cache.get("recent|1:7", this::load);
+        cache.get("recent|1:7", this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jobPages").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void testInvalidateAllAfterCommit_WaitsForCommit() {
+        cache.get("recent|1:7", this::load);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAllAfterCommit();
+            cache.get("recent|1:7", this::load);
+            assertEquals(1, loads.get(), "Pages must stay cached until the ingest commits");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.get("recent|1:7", this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testKey_SkillOrderDoesNotMatter() {
+        assertEquals(
+            JobPageCache.key("by-skills", Set.of("Java", "Kafka", "Spring"), null, 50),
+            JobPageCache.key("by-skills", List.of("Spring", "Java", "Kafka", "Java"), null, 50));
+    }
+
+    @Test
+    void testKey_ValuesCannotCollide() {
+        assertNotEquals(JobPageCache.key("search", "a|b", null), JobPageCache.key("search", "a", "b"));
+        assertNotEquals(JobPageCache.key("by-skills", Set.of("java")), JobPageCache.key("by-skills", Set.of("Java")));
+    }
+
+    @Test
+    void testWeigh_GrowsWithPageContent() {
+        JobPageDto small = page("Dev");
+        JobPageDto large = page("Senior Java Developer with a very long title for weighing");
+
+        int smallWeight = JobPageCache.weigh(new JobPageCache.Key(0, "k"), small);
+        int largeWeight = JobPageCache.weigh(new JobPageCache.Key(0, "k"), large);
+
+        assertTrue(largeWeight > smallWeight);
+    }
+
+    private JobPageDto load() {
+        loads.incrementAndGet();
+        return page("Java Developer");
+    }
+
+    private JobPageDto page(String title) {
+        return JobPageDto.builder()
+            .items(List.of(JobDto.builder().id(1L).title(title).skills(Set.of("Java")).build()))
+            .build();
+    }
+}
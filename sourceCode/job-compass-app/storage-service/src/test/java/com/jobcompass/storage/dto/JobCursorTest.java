@@ -0,0 +1,36 @@
+package com.jobcompass.storage.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JobCursor continuation tokens.
+ *
+ * @author Palrajjayaraj
+ */
+class JobCursorTest {
+
+    @Test
+    void testEncodeDecode_RoundTrip() {
+        JobCursor cursor = new JobCursor(LocalDate.of(2026, 1, 24), 12345L);
+
+        String token = cursor.encode();
+
+        assertEquals(cursor, JobCursor.decode(token));
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "Token must be URL-safe");
+    }
+
+    @Test
+    void testDecode_BlankMeansFirstPage() {
+        assertNull(JobCursor.decode(null));
+        assertNull(JobCursor.decode(" "));
+    }
+
+    @Test
+    void testDecode_MalformedToken() {
+        assertThrows(InvalidCursorException.class, () -> JobCursor.decode("not-a-cursor"));
+    }
+}
@@ -0,0 +1,29 @@
+package com.jobcompass.storage.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JobSearchCursor continuation tokens.
+ *
+ * @author Palrajjayaraj
+ */
+class JobSearchCursorTest {
+
+    @Test
+    void testEncodeDecode_RoundTripKeepsExactRank() {
+        JobSearchCursor cursor = new JobSearchCursor(0.1f / 3, 42L);
+
+        JobSearchCursor decoded = JobSearchCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals(Float.floatToIntBits(cursor.rank()), Float.floatToIntBits(decoded.rank()));
+    }
+
+    @Test
+    void testDecode_MalformedToken() {
+        assertNull(JobSearchCursor.decode(""));
+        assertThrows(InvalidCursorException.class, () -> JobSearchCursor.decode("%%%"));
+    }
+}
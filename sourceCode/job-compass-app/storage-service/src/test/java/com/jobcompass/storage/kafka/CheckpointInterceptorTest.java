@@ -0,0 +1,51 @@
+package com.jobcompass.storage.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CheckpointInterceptor and IngestCheckpoints.
+ *
+ * @author Palrajjayaraj
+ */
+class CheckpointInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CheckpointInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new CheckpointInterceptor();
+        interceptor.configure(Map.of(CheckpointInterceptor.CHECKPOINTS_CONFIG, new IngestCheckpoints(meterRegistry)));
+    }
+
+    @Test
+    void testOnCommit_PublishesCommittedOffsetPerPartition() {
+        interceptor.onCommit(Map.of(
+                new TopicPartition("raw-jobs", 0), new OffsetAndMetadata(500),
+                new TopicPartition("raw-jobs", 1), new OffsetAndMetadata(120)));
+        interceptor.onCommit(Map.of(new TopicPartition("raw-jobs", 0), new OffsetAndMetadata(1000)));
+
+        assertEquals(1000.0, meterRegistry.get("jobcompass.ingest.checkpoint.offset")
+                .tag("topic", "raw-jobs").tag("partition", "0").gauge().value());
+        assertEquals(120.0, meterRegistry.get("jobcompass.ingest.checkpoint.offset")
+                .tag("topic", "raw-jobs").tag("partition", "1").gauge().value());
+        assertEquals(2.0, meterRegistry.get("jobcompass.ingest.checkpoints").tag("topic", "raw-jobs").counter().count());
+    }
+
+    @Test
+    void testOnCommit_WithoutCheckpointsConfiguredIsIgnored() {
+        CheckpointInterceptor unconfigured = new CheckpointInterceptor();
+        unconfigured.configure(Map.of());
+
+        assertDoesNotThrow(() -> unconfigured.onCommit(Map.of(new TopicPartition("raw-jobs", 0), new OffsetAndMetadata(1))));
+    }
+}
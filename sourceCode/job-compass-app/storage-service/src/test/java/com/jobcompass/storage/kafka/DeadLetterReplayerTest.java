@@ -0,0 +1,95 @@
+package com.jobcompass.storage.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DeadLetterReplayer.
+ *
+ * @author Palrajjayaraj
+ */
+class DeadLetterReplayerTest {
+
+    private static final String DLT = "raw-jobs-failed-dlt";
+    private static final TopicPartition PARTITION = new TopicPartition(DLT, 0);
+
+    private MockConsumer<String, byte[]> consumer;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private DeadLetterReplayer replayer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // Kept open across replays so the committed offsets can be observed
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void close() {
+            }
+        };
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.updateEndOffsets(Map.of(PARTITION, 3L));
+
+        ConsumerFactory<String, byte[]> consumerFactory = mock(ConsumerFactory.class);
+        when(consumerFactory.createConsumer()).thenReturn(consumer);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        replayer = new DeadLetterReplayer(consumerFactory, kafkaTemplate, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testReplay_PublishesRecordsAndCommitsUpToLimit() {
+        consumer.schedulePollTask(this::addDeadLetters);
+
+        assertEquals(2, replayer.replay(DLT, "raw-jobs", 2));
+
+        verify(kafkaTemplate).send("raw-jobs", "key-0", bytes(0));
+        verify(kafkaTemplate).send("raw-jobs", "key-1", bytes(1));
+        verify(kafkaTemplate, never()).send(eq("raw-jobs"), eq("key-2"), any());
+        assertEquals(2L, consumer.committed(Set.of(PARTITION)).get(PARTITION).offset());
+    }
+
+    @Test
+    void testReplay_ResumesWhereThePreviousReplayStopped() {
+        consumer.schedulePollTask(this::addDeadLetters);
+        replayer.replay(DLT, "raw-jobs", 2);
+
+        consumer.schedulePollTask(this::addDeadLetters);
+        assertEquals(1, replayer.replay(DLT, "raw-jobs", 10));
+
+        verify(kafkaTemplate, times(1)).send("raw-jobs", "key-0", bytes(0));
+        verify(kafkaTemplate, times(1)).send("raw-jobs", "key-2", bytes(2));
+        assertEquals(0, replayer.replay(DLT, "raw-jobs", 10));
+    }
+
+    private void addDeadLetters() {
+        for (int offset = 0; offset < 3; offset++) {
+            consumer.addRecord(new ConsumerRecord<>(DLT, 0, offset, "key-" + offset, bytes(offset)));
+        }
+    }
+
+    private static byte[] bytes(int offset) {
+        return ("{\"title\":\"Job " + offset + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+}
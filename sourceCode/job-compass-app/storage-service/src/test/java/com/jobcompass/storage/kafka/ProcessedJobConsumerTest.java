@@ -2,19 +2,24 @@ package com.jobcompass.storage.kafka;
 
 import com.jobcompass.common.events.ProcessedJobEvent;
 import com.jobcompass.common.model.Source;
+import com.jobcompass.common.util.JobKeys;
 import com.jobcompass.storage.entity.Job;
 import com.jobcompass.storage.service.JobService;
-import org.junit.Before;
-import org.junit.Test;
-import org.junit.runner.RunWith;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -23,18 +28,24 @@ import static org.mockito.Mockito.*;
  * 
  * @author Palrajjayaraj
  */
-@RunWith(MockitoJUnitRunner.class)
+@ExtendWith(MockitoExtension.class)
 public class ProcessedJobConsumerTest {
 
     @Mock
     private JobService jobService;
 
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private MeterRegistry meterRegistry;
+
     @InjectMocks
     private ProcessedJobConsumer consumer;
 
     private ProcessedJobEvent testEvent;
 
-    @Before
+    @BeforeEach
     public void setUp() {
         testEvent = ProcessedJobEvent.builder()
                 .source(Source.of("LinkedIn"))
@@ -48,21 +59,51 @@ public class ProcessedJobConsumerTest {
     }
 
     @Test
-    public void testConsume_Success() {
-        when(jobService.saveOrUpdateJob(any(ProcessedJobEvent.class))).thenReturn(Job.builder().id(1L).title("Job").build());
+    public void testConsume_SavesBatch() {
+        List<ProcessedJobEvent> batch = List.of(testEvent);
+        when(jobService.saveProcessedJobs(batch)).thenReturn(1);
+
+        consumer.consume(records(batch));
+
+        verify(jobService, times(1)).saveProcessedJobs(batch);
+        verify(jobService, never()).saveOrUpdateJob(any(ProcessedJobEvent.class));
+    }
+
+    @Test
+    public void testConsume_FailedBatchFallsBackToSingleSaves() {
+        ProcessedJobEvent badEvent = ProcessedJobEvent.builder()
+                .title("Broken")
+                .url("https://example.com/broken")
+                .build();
+        List<ProcessedJobEvent> batch = List.of(badEvent, testEvent);
+        when(jobService.saveProcessedJobs(batch)).thenThrow(new RuntimeException("Database error"));
+        when(jobService.saveOrUpdateJob(badEvent)).thenThrow(new RuntimeException("Constraint violation"));
+        when(jobService.saveOrUpdateJob(testEvent)).thenReturn(Job.builder().id(1L).title("Job").build());
+        when(kafkaTemplate.send(ProcessedJobConsumer.FAILED_TOPIC, JobKeys.of(badEvent), badEvent))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
-        consumer.consume(testEvent, 0, 100L);
+        consumer.consume(records(batch));
 
         verify(jobService, times(1)).saveOrUpdateJob(testEvent);
+        verify(kafkaTemplate, times(1)).send(ProcessedJobConsumer.FAILED_TOPIC, JobKeys.of(badEvent), badEvent);
+        verify(kafkaTemplate, never()).send(ProcessedJobConsumer.FAILED_TOPIC, JobKeys.of(testEvent), testEvent);
     }
 
     @Test
-    public void testConsume_ErrorHandling() {
+    public void testRetry_ErrorIsRethrownForRetry() {
         when(jobService.saveOrUpdateJob(any(ProcessedJobEvent.class))).thenThrow(new RuntimeException("Database error"));
 
-        // Should not throw exception - just log it
-        consumer.consume(testEvent, 0, 100L);
+        // Rethrown so the event moves on to the next retry topic
+        assertThrows(RuntimeException.class, () -> consumer.retry(testEvent));
 
         verify(jobService, times(1)).saveOrUpdateJob(testEvent);
     }
+
+    private static List<ConsumerRecord<String, ProcessedJobEvent>> records(List<ProcessedJobEvent> events) {
+        List<ConsumerRecord<String, ProcessedJobEvent>> records = new ArrayList<>();
+        for (ProcessedJobEvent event : events) {
+            records.add(new ConsumerRecord<>("processed-jobs", 0, records.size(), JobKeys.of(event), event));
+        }
+        return records;
+    }
 }
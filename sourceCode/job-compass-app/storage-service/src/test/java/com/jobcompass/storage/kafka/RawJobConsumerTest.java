@@ -2,39 +2,63 @@ package com.jobcompass.storage.kafka;
 
 import com.jobcompass.common.events.RawJobEvent;
 import com.jobcompass.common.model.Source;
+import com.jobcompass.common.util.JobKeys;
 import com.jobcompass.storage.entity.Job;
 import com.jobcompass.storage.service.JobService;
-import org.junit.Before;
-import org.junit.Test;
-import org.junit.runner.RunWith;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for RawJobConsumer.
- * Tests Kafka message consumption and processing of raw job events.
+ * Tests Kafka batch consumption and processing of raw job events.
  * 
  * @author Palrajjayaraj
  */
-@RunWith(MockitoJUnitRunner.class)
+@ExtendWith(MockitoExtension.class)
 public class RawJobConsumerTest {
 
     @Mock
     private JobService jobService;
 
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private MeterRegistry meterRegistry;
+
+    @Mock
+    private Counter deadLetters;
+
     @InjectMocks
     private RawJobConsumer rawJobConsumer;
 
     private RawJobEvent testEvent;
     private Job testJob;
 
-    @Before
+    @BeforeEach
     public void setUp() {
         // Create test RawJobEvent
         testEvent = RawJobEvent.builder()
@@ -57,103 +81,176 @@ public class RawJobConsumerTest {
     }
 
     /**
-     * Test successful consumption of RawJobEvent from Kafka.
-     * Verifies that the consumer calls JobService.saveRawJob().
+     * Test successful consumption of a RawJobEvent batch from Kafka.
+     * Verifies that the consumer hands the whole batch to JobService.saveRawJobs().
      */
     @Test
     public void testConsumeRawJobEvent_Success() {
         // Arrange
-        when(jobService.saveRawJob(any(RawJobEvent.class))).thenReturn(testJob);
+        List<RawJobEvent> batch = List.of(testEvent);
+        when(jobService.saveRawJobs(batch)).thenReturn(1);
 
         // Act
-        rawJobConsumer.consume(testEvent, 0, 100L);
+        rawJobConsumer.consume(records(batch));
 
         // Assert
-        verify(jobService, times(1)).saveRawJob(testEvent);
+        verify(jobService, times(1)).saveRawJobs(batch);
+        verify(jobService, never()).saveRawJob(any(RawJobEvent.class));
     }
 
     /**
-     * Test consumption with null event.
-     * Consumer should handle gracefully without throwing exception.
+     * Test consumption with null or empty batch.
+     * Consumer should handle gracefully without calling the service.
      */
     @Test
     public void testConsumeRawJobEvent_NullEvent() {
-        // Act & Assert - should not throw exception
-        try {
-            rawJobConsumer.consume(null, 0, 100L);
-        } catch (Exception e) {
-            // Expected to handle null gracefully or throw
-        }
+        // Act
+        rawJobConsumer.consume(null);
+        rawJobConsumer.consume(Collections.emptyList());
 
-        // Verify saveRawJob was not called with null
-        verify(jobService, never()).saveRawJob(null);
+        // Assert
+        verifyNoInteractions(jobService);
     }
 
     /**
-     * Test consumption when JobService throws exception.
-     * Consumer should log error and continue (not re-throw).
+     * Test consumption when the bulk save throws exception.
+     * Consumer should fall back to single saves and hand the failed event
+     * to the retry stream instead of re-throwing.
      */
     @Test
     public void testConsumeRawJobEvent_ServiceException() {
         // Arrange
+        List<RawJobEvent> batch = List.of(testEvent);
+        when(jobService.saveRawJobs(batch)).thenThrow(new RuntimeException("Database error"));
         when(jobService.saveRawJob(any(RawJobEvent.class)))
                 .thenThrow(new RuntimeException("Database error"));
+        when(kafkaTemplate.send(RawJobConsumer.FAILED_TOPIC, JobKeys.of(testEvent), testEvent))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
-        // Act - should not throw exception (catches and logs)
-        rawJobConsumer.consume(testEvent, 0, 100L);
+        // Act - should not throw exception
+        rawJobConsumer.consume(records(batch));
 
         // Assert
+        verify(jobService, times(1)).saveRawJobs(batch);
         verify(jobService, times(1)).saveRawJob(testEvent);
+        verify(kafkaTemplate, times(1)).send(RawJobConsumer.FAILED_TOPIC, JobKeys.of(testEvent), testEvent);
     }
 
     /**
-     * Test consumption with minimal RawJobEvent data.
-     * Consumer should handle events with only required fields.
+     * Test a batch is not completed while a failed event cannot be handed
+     * to the retry stream, so it is redelivered rather than lost.
      */
     @Test
-    public void testConsumeRawJobEvent_MinimalData() {
+    public void testConsumeRawJobEvent_RetryHandOverFails() {
         // Arrange
-        RawJobEvent minimalEvent = RawJobEvent.builder()
-                .title("Developer")
-                .url("https://example.com/job")
+        List<RawJobEvent> batch = List.of(testEvent);
+        when(jobService.saveRawJobs(batch)).thenThrow(new RuntimeException("Database error"));
+        when(jobService.saveRawJob(testEvent)).thenThrow(new RuntimeException("Database error"));
+        when(kafkaTemplate.send(RawJobConsumer.FAILED_TOPIC, JobKeys.of(testEvent), testEvent))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker unavailable")));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> rawJobConsumer.consume(records(batch)));
+    }
+
+    /**
+     * Test a retried event that fails again is rethrown, so it moves on to
+     * the next retry topic.
+     */
+    @Test
+    public void testRetryRawJobEvent_FailureIsRethrown() {
+        // Arrange
+        when(jobService.saveRawJob(testEvent)).thenThrow(new RuntimeException("Database error"));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> rawJobConsumer.retry(testEvent));
+    }
+
+    /**
+     * Test fallback isolates a bad event within a failed batch.
+     * The remaining events are still saved individually.
+     */
+    @Test
+    public void testConsumeRawJobEvent_FallbackSavesHealthyEvents() {
+        // Arrange
+        RawJobEvent badEvent = RawJobEvent.builder()
+                .title("Broken")
+                .url("https://example.com/broken")
                 .build();
+        List<RawJobEvent> batch = List.of(badEvent, testEvent);
 
-        when(jobService.saveRawJob(any(RawJobEvent.class))).thenReturn(testJob);
+        when(jobService.saveRawJobs(batch)).thenThrow(new RuntimeException("Database error"));
+        when(jobService.saveRawJob(badEvent)).thenThrow(new RuntimeException("Constraint violation"));
+        when(jobService.saveRawJob(testEvent)).thenReturn(testJob);
+        when(kafkaTemplate.send(RawJobConsumer.FAILED_TOPIC, JobKeys.of(badEvent), badEvent))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
         // Act
-        rawJobConsumer.consume(minimalEvent, 0, 100L);
+        rawJobConsumer.consume(records(batch));
 
         // Assert
-        verify(jobService, times(1)).saveRawJob(minimalEvent);
+        verify(jobService, times(1)).saveRawJob(badEvent);
+        verify(jobService, times(1)).saveRawJob(testEvent);
+        verify(kafkaTemplate, times(1)).send(RawJobConsumer.FAILED_TOPIC, JobKeys.of(badEvent), badEvent);
+        verify(kafkaTemplate, never()).send(RawJobConsumer.FAILED_TOPIC, JobKeys.of(testEvent), testEvent);
     }
 
     /**
-     * Test consumption from different Kafka partitions.
-     * Consumer should process events from any partition.
+     * Test a record that could not be deserialized is parked on the
+     * dead-letter topic as its original bytes, while the rest of the batch
+     * is saved.
      */
     @Test
-    public void testConsumeRawJobEvent_DifferentPartitions() {
+    public void testConsumeRawJobEvent_UnreadableRecordIsDeadLettered() {
+        // Arrange
+        byte[] data = "{not json".getBytes(StandardCharsets.UTF_8);
+        List<ConsumerRecord<String, RawJobEvent>> batch = new ArrayList<>(records(List.of(testEvent)));
+        batch.add(unreadable("LinkedIn:42", data));
+
+        when(jobService.saveRawJobs(List.of(testEvent))).thenReturn(1);
+        when(kafkaTemplate.send(RawJobConsumer.DEAD_LETTER_TOPIC, "LinkedIn:42", data))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(meterRegistry.counter("jobcompass.ingest.dead-letters", "topic", RawJobConsumer.DEAD_LETTER_TOPIC))
+                .thenReturn(deadLetters);
+
+        // Act
+        rawJobConsumer.consume(batch);
+
+        // Assert
+        verify(jobService, times(1)).saveRawJobs(List.of(testEvent));
+        verify(kafkaTemplate, times(1)).send(RawJobConsumer.DEAD_LETTER_TOPIC, "LinkedIn:42", data);
+        verify(deadLetters, times(1)).increment();
+    }
+
+    /**
+     * Test consumption with minimal RawJobEvent data.
+     * Consumer should handle events with only required fields.
+     */
+    @Test
+    public void testConsumeRawJobEvent_MinimalData() {
         // Arrange
-        when(jobService.saveRawJob(any(RawJobEvent.class))).thenReturn(testJob);
+        RawJobEvent minimalEvent = RawJobEvent.builder()
+                .title("Developer")
+                .url("https://example.com/job")
+                .build();
+        List<RawJobEvent> batch = List.of(minimalEvent);
 
-        // Act - consume from partition 0, 1, 2
-        rawJobConsumer.consume(testEvent, 0, 100L);
-        rawJobConsumer.consume(testEvent, 1, 101L);
-        rawJobConsumer.consume(testEvent, 2, 102L);
+        when(jobService.saveRawJobs(batch)).thenReturn(1);
+
+        // Act
+        rawJobConsumer.consume(records(batch));
 
         // Assert
-        verify(jobService, times(3)).saveRawJob(testEvent);
+        verify(jobService, times(1)).saveRawJobs(batch);
     }
 
     /**
-     * Test consumption with different event sources.
+     * Test consumption with different event sources in one batch.
      * Consumer should handle jobs from all sources (LinkedIn, Glassdoor, Indeed).
      */
     @Test
     public void testConsumeRawJobEvent_DifferentSources() {
         // Arrange
-        when(jobService.saveRawJob(any(RawJobEvent.class))).thenReturn(testJob);
-
         RawJobEvent linkedInEvent = RawJobEvent.builder()
                 .source(Source.of("LINKEDIN"))
                 .title("Job 1")
@@ -172,14 +269,31 @@ public class RawJobConsumerTest {
                 .url("https://indeed.com/3")
                 .build();
 
+        List<RawJobEvent> batch = List.of(linkedInEvent, glassdoorEvent, indeedEvent);
+        when(jobService.saveRawJobs(batch)).thenReturn(3);
+
         // Act
-        rawJobConsumer.consume(linkedInEvent, 0, 100L);
-        rawJobConsumer.consume(glassdoorEvent, 0, 101L);
-        rawJobConsumer.consume(indeedEvent, 0, 102L);
+        rawJobConsumer.consume(records(batch));
 
         // Assert
-        verify(jobService, times(1)).saveRawJob(linkedInEvent);
-        verify(jobService, times(1)).saveRawJob(glassdoorEvent);
-        verify(jobService, times(1)).saveRawJob(indeedEvent);
+        verify(jobService, times(1)).saveRawJobs(batch);
+    }
+
+    private static List<ConsumerRecord<String, RawJobEvent>> records(List<RawJobEvent> events) {
+        List<ConsumerRecord<String, RawJobEvent>> records = new ArrayList<>();
+        for (RawJobEvent event : events) {
+            records.add(new ConsumerRecord<>("raw-jobs", 0, records.size(), JobKeys.of(event), event));
+        }
+        return records;
+    }
+
+    /**
+     * A record as the ErrorHandlingDeserializer delivers it when its value cannot be read.
+     */
+    private static ConsumerRecord<String, RawJobEvent> unreadable(String key, byte[] data) {
+        RecordHeaders headers = new RecordHeaders();
+        SerializationUtils.deserializationException(headers, data, new IllegalStateException("Unexpected end of input"), false);
+        return new ConsumerRecord<>("raw-jobs", 0, 99, 0L, TimestampType.CREATE_TIME, key.length(), data.length,
+                key, null, headers, Optional.empty());
     }
 }
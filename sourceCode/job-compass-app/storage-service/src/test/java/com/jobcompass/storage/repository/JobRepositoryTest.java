@@ -66,6 +66,7 @@ public class JobRepositoryTest {
             .jobAgeDays(3)
             .source(Source.of("LINKEDIN"))
             .scrapedAt(LocalDateTime.now())
+            .lastSeenAt(LocalDateTime.now())
             .company(testCompany)
             .isActive(true)
             .build();
@@ -81,6 +82,7 @@ public class JobRepositoryTest {
             .jobAgeDays(10)
             .source(Source.of("GLASSDOOR"))
             .scrapedAt(LocalDateTime.now())
+            .lastSeenAt(LocalDateTime.now())
             .company(testCompany)
             .isActive(true)
             .build();
@@ -122,8 +124,9 @@ public class JobRepositoryTest {
      * Test finding active jobs by source.
      */
     @Test
-    public void testFindBySourceAndIsActive() {
-        List<Job> jobs = jobRepository.findBySourceAndIsActive(Source.of("LINKEDIN"), true);
+    public void testFindAll_ActiveFromSource() {
+        List<Job> jobs = jobRepository.findAll(JobSpecifications.isActive()
+            .and(JobSpecifications.hasSource(Source.of("LINKEDIN"))));
         assertEquals(1, jobs.size());
         assertEquals("Senior Java Developer", jobs.get(0).getTitle());
     }
@@ -132,9 +135,9 @@ public class JobRepositoryTest {
      * Test finding recent jobs.
      */
     @Test
-    public void testFindRecentJobs() {
+    public void testFindAll_PostedOnOrAfter() {
         LocalDate startDate = LocalDate.now().minusDays(5);
-        List<Job> jobs = jobRepository.findRecentJobs(startDate);
+        List<Job> jobs = jobRepository.findAll(JobSpecifications.postedOnOrAfter(startDate));
         assertEquals(1, jobs.size());
         assertEquals("Senior Java Developer", jobs.get(0).getTitle());
     }
@@ -143,8 +146,8 @@ public class JobRepositoryTest {
      * Test finding jobs by location.
      */
     @Test
-    public void testFindByLocationContainingIgnoreCase() {
-        List<Job> jobs = jobRepository.findByLocationContainingIgnoreCase("san francisco");
+    public void testFindAll_LocationContains() {
+        List<Job> jobs = jobRepository.findAll(JobSpecifications.locationContains("san francisco"));
         assertEquals(1, jobs.size());
         assertEquals("Senior Java Developer", jobs.get(0).getTitle());
     }
@@ -153,8 +156,8 @@ public class JobRepositoryTest {
      * Test finding jobs by company name.
      */
     @Test
-    public void testFindByCompanyNameContainingIgnoreCase() {
-        List<Job> jobs = jobRepository.findByCompanyNameContainingIgnoreCase("test");
+    public void testFindAll_CompanyNameContains() {
+        List<Job> jobs = jobRepository.findAll(JobSpecifications.companyNameContains("test"));
         assertEquals(2, jobs.size());
     }
 
@@ -168,6 +171,7 @@ public class JobRepositoryTest {
             .url("https://example.com/job1")  // Same URL as testJob1
             .source(Source.of("LINKEDIN"))
             .scrapedAt(LocalDateTime.now())
+            .lastSeenAt(LocalDateTime.now())
             .isActive(true)
             .build();
 
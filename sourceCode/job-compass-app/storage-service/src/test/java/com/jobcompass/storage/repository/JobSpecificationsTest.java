@@ -0,0 +1,68 @@
+package com.jobcompass.storage.repository;
+
+import com.jobcompass.storage.dto.JobSearchCriteria;
+import com.jobcompass.storage.entity.Job;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JobSpecifications LIKE patterns and joins.
+ *
+ * @author Palrajjayaraj
+ */
+class JobSpecificationsTest {
+
+    @Test
+    void testContainsPattern_LowerCasesTerm() {
+        assertEquals("%berlin%", JobSpecifications.containsPattern("Berlin"));
+    }
+
+    @Test
+    void testContainsPattern_EscapesWildcards() {
+        assertEquals("%100\\%\\_remote\\\\%", JobSpecifications.containsPattern("100%_Remote\\"));
+    }
+
+    @Test
+    void testMatching_EmptyCriteriaAddsNoPredicate() {
+        JobSearchCriteria criteria = JobSearchCriteria.builder().location(" ").build();
+
+        assertNull(JobSpecifications.matching(criteria).toPredicate(null, null, null));
+        assertNull(JobSpecifications.matching(null).toPredicate(null, null, null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCompany_ReusesExistingJoin() {
+        Root<Job> root = mock(Root.class);
+        Join<Job, Object> join = mock(Join.class);
+        Attribute<Object, Object> attribute = mock(Attribute.class);
+        when(attribute.getName()).thenReturn("company");
+        doReturn(attribute).when(join).getAttribute();
+        doReturn(Set.of(join)).when(root).getJoins();
+
+        assertSame(join, JobSpecifications.company(root));
+        verify(root, never()).join(anyString(), any(JoinType.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCompany_LeftJoinsWhenNotJoinedYet() {
+        Root<Job> root = mock(Root.class);
+        Join<Job, Object> join = mock(Join.class);
+        when(root.getJoins()).thenReturn(Set.of());
+        doReturn(join).when(root).join("company", JoinType.LEFT);
+
+        assertSame(join, JobSpecifications.company(root));
+    }
+}
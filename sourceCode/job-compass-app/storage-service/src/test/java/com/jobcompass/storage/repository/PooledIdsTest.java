@@ -0,0 +1,47 @@
+package com.jobcompass.storage.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PooledIds.
+ *
+ * @author Palrajjayaraj
+ */
+class PooledIdsTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void testAllocate_OneNextvalPerBlock() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("jobs_id_seq"), eq(2)))
+                .thenReturn(List.of(150L, 200L));
+
+        Long[] ids = PooledIds.allocate(jdbcTemplate, "jobs_id_seq", 60);
+
+        assertEquals(60, ids.length);
+        assertEquals(101L, ids[0]);
+        assertEquals(150L, ids[49]);
+        assertEquals(151L, ids[50]);
+        assertEquals(160L, ids[59]);
+    }
+
+    @Test
+    void testAllocate_FreshSequenceStartsAtOne() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("skills_id_seq"), eq(1)))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of(51L));
+
+        Long[] ids = PooledIds.allocate(jdbcTemplate, "skills_id_seq", 3);
+
+        assertArrayEquals(new Long[] {1L, 2L, 3L}, ids);
+    }
+}
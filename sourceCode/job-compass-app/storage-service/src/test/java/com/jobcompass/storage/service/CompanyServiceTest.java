@@ -1,47 +1,58 @@
 package com.jobcompass.storage.service;
 
+import com.jobcompass.storage.cache.CompanyIdCache;
 import com.jobcompass.storage.entity.Company;
 import com.jobcompass.storage.repository.CompanyRepository;
-import org.junit.Before;
-import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
+import com.jobcompass.storage.repository.CompanyRepositoryCustom.ResolvedCompanyIds;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
 
-import static org.junit.Assert.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for CompanyService.
- * Tests find-or-create logic.
+ * Tests find-or-create logic and the company ID cache.
  * 
  * @author Palrajjayaraj
  */
-@RunWith(MockitoJUnitRunner.class)
+@ExtendWith(MockitoExtension.class)
 public class CompanyServiceTest {
 
     @Mock
     private CompanyRepository companyRepository;
 
-    @InjectMocks
+    private CompanyIdCache companyIdCache;
+
     private CompanyService companyService;
 
+    @BeforeEach
+    public void setUp() {
+        companyIdCache = new CompanyIdCache(new SimpleMeterRegistry(), 100, Duration.ofHours(1));
+        companyService = new CompanyService(companyRepository, companyIdCache);
+        lenient().when(companyRepository.getReferenceById(anyLong())).thenAnswer(invocation ->
+            Company.builder().id(invocation.getArgument(0)).build());
+    }
+
     /**
      * Test finding existing company.
      */
     @Test
     public void testFindOrCreateCompany_ExistingCompany() {
         // Arrange
-        Company existingCompany = Company.builder()
-            .id(1L)
-            .name("Google")
-            .build();
-
-        when(companyRepository.findByName("Google")).thenReturn(Optional.of(existingCompany));
+        when(companyRepository.resolveIds(Set.of("Google")))
+            .thenReturn(new ResolvedCompanyIds(Map.of("Google", 1L), Set.of()));
 
         // Act
         Company result = companyService.findOrCreateCompany("Google");
@@ -49,9 +60,8 @@ public class CompanyServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1L, result.getId().longValue());
-        assertEquals("Google", result.getName());
 
-        verify(companyRepository, times(1)).findByName("Google");
+        verify(companyRepository, times(1)).resolveIds(Set.of("Google"));
         verify(companyRepository, never()).save(any(Company.class));
     }
 
@@ -61,22 +71,57 @@ public class CompanyServiceTest {
     @Test
     public void testFindOrCreateCompany_NewCompany() {
         // Arrange
-        when(companyRepository.findByName("Apple")).thenReturn(Optional.empty());
-        when(companyRepository.save(any(Company.class))).thenAnswer(invocation -> {
-            Company company = invocation.getArgument(0);
-            company.setId(2L);
-            return company;
-        });
+        when(companyRepository.resolveIds(Set.of("Apple")))
+            .thenReturn(new ResolvedCompanyIds(Map.of("Apple", 2L), Set.of("Apple")));
 
         // Act
         Company result = companyService.findOrCreateCompany("Apple");
 
         // Assert
         assertNotNull(result);
-        assertEquals("Apple", result.getName());
+        assertEquals(2L, result.getId().longValue());
+
+        verify(companyRepository, times(1)).resolveIds(Set.of("Apple"));
+        verify(companyRepository, never()).save(any(Company.class));
+    }
 
-        verify(companyRepository, times(1)).findByName("Apple");
-        verify(companyRepository, times(1)).save(any(Company.class));
+    /**
+     * Test repeat lookups are served from the cache.
+     */
+    @Test
+    public void testFindOrCreateCompany_RepeatLookupHitsCache() {
+        // Arrange
+        when(companyRepository.resolveIds(Set.of("Google")))
+            .thenReturn(new ResolvedCompanyIds(Map.of("Google", 1L), Set.of()));
+
+        // Act
+        companyService.findOrCreateCompany("Google");
+        Company result = companyService.findOrCreateCompany("Google");
+
+        // Assert
+        assertEquals(1L, result.getId().longValue());
+        verify(companyRepository, times(1)).resolveIds(any());
+    }
+
+    /**
+     * Test batch lookup resolves only the cache misses, in one call.
+     */
+    @Test
+    public void testFindOrCreateCompanies_ResolvesOnlyMisses() {
+        // Arrange
+        companyIdCache.putAll(Map.of("Google", 1L));
+        when(companyRepository.resolveIds(Set.of("Apple", "Acme")))
+            .thenReturn(new ResolvedCompanyIds(Map.of("Apple", 2L, "Acme", 3L), Set.of("Acme")));
+
+        // Act
+        Map<String, Company> result = companyService.findOrCreateCompanies(
+            Arrays.asList("Google", "Apple", "Acme", null, " "));
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(1L, result.get("Google").getId().longValue());
+        assertEquals(3L, result.get("Acme").getId().longValue());
+        verify(companyRepository, times(1)).resolveIds(Set.of("Apple", "Acme"));
     }
 
     /**
@@ -90,7 +135,7 @@ public class CompanyServiceTest {
         // Assert
         assertNull(result);
 
-        verify(companyRepository, never()).findByName(any());
+        verify(companyRepository, never()).resolveIds(any());
         verify(companyRepository, never()).save(any(Company.class));
     }
 
@@ -105,7 +150,7 @@ public class CompanyServiceTest {
         // Assert
         assertNull(result);
 
-        verify(companyRepository, never()).findByName(any());
+        verify(companyRepository, never()).resolveIds(any());
         verify(companyRepository, never()).save(any(Company.class));
     }
 }
@@ -1,23 +1,26 @@
 package com.jobcompass.storage.service;
 
+import com.jobcompass.storage.cache.JobPageCache;
 import com.jobcompass.storage.entity.Job;
 import com.jobcompass.storage.entity.JobApplication;
 import com.jobcompass.storage.entity.enums.ApplicationStatus;
 import com.jobcompass.storage.repository.JobApplicationRepository;
 import com.jobcompass.storage.repository.JobRepository;
-import org.junit.Before;
-import org.junit.Test;
-import org.junit.runner.RunWith;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import static org.junit.Assert.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
@@ -25,7 +28,7 @@ import static org.mockito.Mockito.*;
  * 
  * @author Palrajjayaraj
  */
-@RunWith(MockitoJUnitRunner.class)
+@ExtendWith(MockitoExtension.class)
 public class JobApplicationServiceTest {
 
     @Mock
@@ -34,13 +37,16 @@ public class JobApplicationServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private JobPageCache jobPageCache;
+
     @InjectMocks
     private JobApplicationService applicationService;
 
     private Job testJob;
     private JobApplication testApplication;
 
-    @Before
+    @BeforeEach
     public void setUp() {
         testJob = Job.builder()
                 .id(1L)
@@ -67,11 +73,11 @@ public class JobApplicationServiceTest {
         verify(applicationRepository, times(1)).save(any(JobApplication.class));
     }
 
-    @Test(expected = RuntimeException.class)
+    @Test
     public void testApplyToJob_JobNotFound() {
         when(jobRepository.findById(1L)).thenReturn(Optional.empty());
 
-        applicationService.applyToJob(1L, "test@example.com", "Notes");
+        assertThrows(RuntimeException.class, () -> applicationService.applyToJob(1L, "test@example.com", "Notes"));
     }
 
     @Test
@@ -97,11 +103,11 @@ public class JobApplicationServiceTest {
         verify(applicationRepository, times(1)).save(any(JobApplication.class));
     }
 
-    @Test(expected = RuntimeException.class)
+    @Test
     public void testUpdateStatus_ApplicationNotFound() {
         when(applicationRepository.findById(1L)).thenReturn(Optional.empty());
 
-        applicationService.updateStatus(1L, ApplicationStatus.INTERVIEWING);
+        assertThrows(RuntimeException.class, () -> applicationService.updateStatus(1L, ApplicationStatus.INTERVIEWING));
     }
 
     @Test
@@ -117,4 +123,19 @@ public class JobApplicationServiceTest {
         assertEquals(1, result.size());
         assertEquals(ApplicationStatus.APPLIED, result.get(0).getStatus());
     }
+
+    @Test
+    public void testCountApplicationsForJobs_SingleGroupedQuery() {
+        List<Long> jobIds = Arrays.asList(1L, 2L, 3L);
+        when(applicationRepository.countByJobIds(jobIds))
+                .thenReturn(Arrays.asList(new Object[]{1L, 4L}, new Object[]{3L, 1L}));
+
+        Map<Long, Long> result = applicationService.countApplicationsForJobs(jobIds);
+
+        assertEquals(2, result.size());
+        assertEquals(4L, result.get(1L).longValue());
+        assertNull(result.get(2L));
+        verify(applicationRepository, times(1)).countByJobIds(jobIds);
+        verify(applicationRepository, never()).countByJobId(anyLong());
+    }
 }
@@ -0,0 +1,208 @@
+package com.jobcompass.storage.service;
+
+import com.jobcompass.common.events.ProcessedJobEvent;
+import com.jobcompass.common.events.RawJobEvent;
+import com.jobcompass.common.model.Source;
+import com.jobcompass.storage.cache.JobPageCache;
+import com.jobcompass.storage.entity.Company;
+import com.jobcompass.storage.entity.Job;
+import com.jobcompass.storage.repository.JobRepository;
+import com.jobcompass.storage.skills.SkillExtractor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JobService.saveRawJobs() and saveProcessedJobs() bulk ingest.
+ */
+@ExtendWith(MockitoExtension.class)
+public class JobServiceBatchTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private CompanyService companyService;
+
+    @Mock
+    private SkillService skillService;
+
+    @Mock
+    private JobPageCache jobPageCache;
+
+    @Mock
+    private SkillExtractor skillExtractor;
+
+    @InjectMocks
+    private JobService jobService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSaveRawJobs_ResolvesCompaniesOnceAndUpsertsBatch() {
+        // Arrange
+        Company google = Company.builder().id(1L).name("Google").build();
+        Company acme = Company.builder().id(2L).name("Acme").build();
+        when(companyService.findOrCreateCompanies(any())).thenReturn(Map.of("Google", google, "Acme", acme));
+        when(jobRepository.upsertAll(anyList())).thenAnswer(i -> ((List<Job>) i.getArgument(0)).size());
+
+        List<RawJobEvent> events = List.of(
+                event("https://linkedin.com/jobs/view/1", "Google"),
+                event("https://linkedin.com/jobs/view/2", "Acme"),
+                event("https://linkedin.com/jobs/view/3", "Google"));
+
+        // Act
+        int saved = jobService.saveRawJobs(events);
+
+        // Assert
+        assertEquals(3, saved);
+        ArgumentCaptor<Collection<String>> names = ArgumentCaptor.forClass(Collection.class);
+        verify(companyService, times(1)).findOrCreateCompanies(names.capture());
+        assertEquals(2, names.getValue().size());
+
+        ArgumentCaptor<List<Job>> jobs = ArgumentCaptor.forClass(List.class);
+        verify(jobRepository, times(1)).upsertAll(jobs.capture());
+        assertEquals(3, jobs.getValue().size());
+        assertEquals(google, jobs.getValue().get(2).getCompany());
+        verify(jobRepository, never()).findBySourceAndExternalId(any(), any());
+        verify(jobRepository, never()).save(any(Job.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSaveProcessedJobs_UpsertsBatchWithContentHashAndSalary() {
+        // Arrange
+        Company google = Company.builder().id(1L).name("Google").build();
+        when(companyService.findOrCreateCompanies(any())).thenReturn(Map.of("Google", google));
+        when(jobRepository.upsertAll(anyList())).thenAnswer(i -> ((List<Job>) i.getArgument(0)).size());
+        ProcessedJobEvent event = ProcessedJobEvent.builder()
+                .source(Source.of("LinkedIn"))
+                .title("Java Developer")
+                .company("Google")
+                .salary("$120k-150k")
+                .url("https://www.linkedin.com/jobs/view/3812345678")
+                .externalId("3812345678")
+                .jobAgeInDays(2)
+                .build();
+
+        // Act
+        int saved = jobService.saveProcessedJobs(List.of(event));
+
+        // Assert
+        assertEquals(1, saved);
+        ArgumentCaptor<List<Job>> jobs = ArgumentCaptor.forClass(List.class);
+        verify(jobRepository, times(1)).upsertAll(jobs.capture());
+        Job job = jobs.getValue().get(0);
+        assertEquals("3812345678", job.getExternalId());
+        assertEquals("$120k-150k", job.getSalaryRange());
+        assertEquals(JobContentHash.of(event), job.getContentHash());
+        assertEquals(google, job.getCompany());
+        verify(jobRepository, never()).findBySourceAndExternalId(any(), any());
+        verify(jobRepository, never()).save(any(Job.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSaveRawJobs_DuplicateUrlsInBatch_LastEventWins() {
+        // Arrange
+        when(companyService.findOrCreateCompanies(any())).thenReturn(Map.of());
+        when(jobRepository.upsertAll(anyList())).thenAnswer(i -> ((List<Job>) i.getArgument(0)).size());
+
+        RawJobEvent first = event("https://linkedin.com/jobs/view/1", null);
+        RawJobEvent second = event("https://linkedin.com/jobs/view/1", null);
+        second.setTitle("Updated Title");
+
+        // Act
+        jobService.saveRawJobs(List.of(first, second));
+
+        // Assert
+        ArgumentCaptor<List<Job>> jobs = ArgumentCaptor.forClass(List.class);
+        verify(jobRepository).upsertAll(jobs.capture());
+        assertEquals(1, jobs.getValue().size());
+        assertEquals("Updated Title", jobs.getValue().get(0).getTitle());
+        assertNull(jobs.getValue().get(0).getCompany());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSaveRawJobs_TrackingUrlsOfSamePosting_CollapseToOneJob() {
+        // Arrange
+        when(companyService.findOrCreateCompanies(any())).thenReturn(Map.of());
+        when(jobRepository.upsertAll(anyList())).thenAnswer(i -> ((List<Job>) i.getArgument(0)).size());
+
+        RawJobEvent first = event("https://de.linkedin.com/jobs/view/java-developer-at-acme-3812345678?refId=a&trackingId=x", null);
+        RawJobEvent second = event("https://www.linkedin.com/jobs/view/3812345678/?refId=b&trackingId=y", null);
+
+        // Act
+        jobService.saveRawJobs(List.of(first, second));
+
+        // Assert
+        ArgumentCaptor<List<Job>> jobs = ArgumentCaptor.forClass(List.class);
+        verify(jobRepository).upsertAll(jobs.capture());
+        assertEquals(1, jobs.getValue().size());
+        assertEquals("3812345678", jobs.getValue().get(0).getExternalId());
+        assertEquals("https://www.linkedin.com/jobs/view/3812345678", jobs.getValue().get(0).getUrl());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSaveRawJobs_WrittenJobsGetExtractedSkills() {
+        // Arrange
+        when(companyService.findOrCreateCompanies(any())).thenReturn(Map.of());
+        when(jobRepository.upsertAll(anyList())).thenAnswer(i -> {
+            // Only the first job is new or changed
+            ((List<Job>) i.getArgument(0)).get(0).setId(10L);
+            return 1;
+        });
+        when(skillExtractor.extract("Java Developer")).thenReturn(Set.of("Java"));
+        when(skillExtractor.extract("Spring Boot and Kafka")).thenReturn(Set.of("Spring Boot", "Apache Kafka"));
+        when(skillService.findOrCreateSkillIds(Set.of("Java", "Spring Boot", "Apache Kafka")))
+                .thenReturn(Map.of("Java", 1L, "Spring Boot", 2L, "Apache Kafka", 3L));
+
+        RawJobEvent changed = event("https://linkedin.com/jobs/view/1", null);
+        changed.setDescription("Spring Boot and Kafka");
+        RawJobEvent unchanged = event("https://linkedin.com/jobs/view/2", null);
+
+        // Act
+        jobService.saveRawJobs(List.of(changed, unchanged));
+
+        // Assert
+        verify(jobRepository).replaceSkills(Map.of(10L, Set.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    public void testSaveRawJobs_SkipsEventsWithoutUrl() {
+        // Act
+        int saved = jobService.saveRawJobs(Arrays.asList(null, event(null, "Google"), event("  ", "Google")));
+
+        // Assert
+        assertEquals(0, saved);
+        verifyNoInteractions(companyService);
+        verify(jobRepository, never()).upsertAll(anyList());
+    }
+
+    private RawJobEvent event(String url, String company) {
+        return RawJobEvent.builder()
+                .source(Source.of("LinkedIn"))
+                .title("Java Developer")
+                .company(company)
+                .location("Berlin")
+                .url(url)
+                .postedDate("2026-01-24")
+                .build();
+    }
+}
@@ -2,9 +2,12 @@ package com.jobcompass.storage.service;
 
 import com.jobcompass.common.events.ProcessedJobEvent;
 import com.jobcompass.common.model.Source;
+import com.jobcompass.common.util.JobUrls;
+import com.jobcompass.storage.cache.JobPageCache;
 import com.jobcompass.storage.entity.Company;
 import com.jobcompass.storage.entity.Job;
 import com.jobcompass.storage.repository.JobRepository;
+import com.jobcompass.storage.skills.SkillExtractor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +37,12 @@ public class JobServiceDeDuplicationTest {
     @Mock
     private SkillService skillService;
 
+    @Mock
+    private JobPageCache jobPageCache;
+
+    @Mock
+    private SkillExtractor skillExtractor;
+
     @InjectMocks
     private JobService jobService;
 
@@ -53,7 +62,7 @@ public class JobServiceDeDuplicationTest {
     @Test
     public void testSaveOrUpdateJob_NewJob_CreatesNewRecord() {
         // Arrange
-        when(jobRepository.findByUrl(jobEvent.getUrl())).thenReturn(Optional.empty());
+        when(jobRepository.findBySourceAndExternalId(jobEvent.getSource(), JobUrls.externalId(jobEvent.getUrl()))).thenReturn(Optional.empty());
         when(companyService.findOrCreateCompany("Tech Corp")).thenReturn(new Company());
         when(jobRepository.save(any(Job.class))).thenAnswer(i -> {
             Job job = i.getArgument(0);
@@ -67,7 +76,7 @@ public class JobServiceDeDuplicationTest {
         // Assert
         assertNotNull(result);
         verify(jobRepository, times(1)).save(any(Job.class));
-        verify(jobRepository, times(1)).findByUrl(jobEvent.getUrl());
+        verify(jobRepository, times(1)).findBySourceAndExternalId(jobEvent.getSource(), JobUrls.externalId(jobEvent.getUrl()));
     }
 
     @Test
@@ -79,7 +88,7 @@ public class JobServiceDeDuplicationTest {
                 .url("https://linkedin.com/jobs/view/123456")
                 .build();
 
-        when(jobRepository.findByUrl(jobEvent.getUrl())).thenReturn(Optional.of(existingJob));
+        when(jobRepository.findBySourceAndExternalId(jobEvent.getSource(), JobUrls.externalId(jobEvent.getUrl()))).thenReturn(Optional.of(existingJob));
         when(companyService.findOrCreateCompany("Tech Corp")).thenReturn(new Company());
         when(jobRepository.save(any(Job.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -90,6 +99,6 @@ public class JobServiceDeDuplicationTest {
         assertEquals(existingJob.getId(), result.getId()); // ID should allow be same
         assertEquals("Software Engineer", result.getTitle()); // Title should be updated
         verify(jobRepository, times(1)).save(existingJob); // Should update, not create new
-        verify(jobRepository, times(1)).findByUrl(jobEvent.getUrl());
+        verify(jobRepository, times(1)).findBySourceAndExternalId(jobEvent.getSource(), JobUrls.externalId(jobEvent.getUrl()));
     }
 }
@@ -2,21 +2,24 @@ package com.jobcompass.storage.service;
 
 import com.jobcompass.common.events.RawJobEvent;
 import com.jobcompass.common.model.Source;
+import com.jobcompass.common.util.JobUrls;
+import com.jobcompass.storage.cache.JobPageCache;
 import com.jobcompass.storage.entity.Company;
 import com.jobcompass.storage.entity.Job;
 import com.jobcompass.storage.repository.JobRepository;
-import org.junit.Before;
-import org.junit.Test;
-import org.junit.runner.RunWith;
+import com.jobcompass.storage.skills.SkillExtractor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
-import static org.junit.Assert.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -27,7 +30,7 @@ import static org.mockito.Mockito.*;
  * 
  * @author Palrajjayaraj
  */
-@RunWith(MockitoJUnitRunner.class)
+@ExtendWith(MockitoExtension.class)
 public class JobServiceRawJobTest {
 
     @Mock
@@ -39,6 +42,12 @@ public class JobServiceRawJobTest {
     @Mock
     private SkillService skillService;
 
+    @Mock
+    private JobPageCache jobPageCache;
+
+    @Mock
+    private SkillExtractor skillExtractor;
+
     @InjectMocks
     private JobService jobService;
 
@@ -46,7 +55,7 @@ public class JobServiceRawJobTest {
     private Job testJob;
     private Company testCompany;
 
-    @Before
+    @BeforeEach
     public void setUp() {
         // Create test RawJobEvent
         testEvent = RawJobEvent.builder()
@@ -84,7 +93,7 @@ public class JobServiceRawJobTest {
     @Test
     public void testSaveRawJob_NewJob_Success() {
         // Arrange
-        when(jobRepository.findByUrl(anyString())).thenReturn(Optional.empty());
+        when(jobRepository.findBySourceAndExternalId(any(), anyString())).thenReturn(Optional.empty());
         when(companyService.findOrCreateCompany(anyString())).thenReturn(testCompany);
         when(jobRepository.save(any(Job.class))).thenReturn(testJob);
 
@@ -93,7 +102,7 @@ public class JobServiceRawJobTest {
 
         // Assert
         assertNotNull(savedJob);
-        verify(jobRepository, times(1)).findByUrl("https://linkedin.com/jobs/12345");
+        verify(jobRepository, times(1)).findBySourceAndExternalId(testEvent.getSource(), JobUrls.externalId("https://linkedin.com/jobs/12345"));
         verify(companyService, times(1)).findOrCreateCompany("Google");
         verify(jobRepository, times(1)).save(any(Job.class));
     }
@@ -105,7 +114,7 @@ public class JobServiceRawJobTest {
     @Test
     public void testSaveRawJob_UpdateExistingJob_Success() {
         // Arrange
-        when(jobRepository.findByUrl(anyString())).thenReturn(Optional.of(testJob));
+        when(jobRepository.findBySourceAndExternalId(any(), anyString())).thenReturn(Optional.of(testJob));
         when(companyService.findOrCreateCompany(anyString())).thenReturn(testCompany);
         when(jobRepository.save(any(Job.class))).thenReturn(testJob);
 
@@ -115,10 +124,59 @@ public class JobServiceRawJobTest {
         // Assert
         assertNotNull(savedJob);
         assertEquals(testJob.getId(), savedJob.getId());
-        verify(jobRepository, times(1)).findByUrl("https://linkedin.com/jobs/12345");
+        verify(jobRepository, times(1)).findBySourceAndExternalId(testEvent.getSource(), JobUrls.externalId("https://linkedin.com/jobs/12345"));
         verify(jobRepository, times(1)).save(testJob);
     }
 
+    /**
+     * Test re-scraping an unchanged job.
+     * Verifies that only last_seen_at is written and the job is not saved.
+     */
+    @Test
+    public void testSaveRawJob_UnchangedJob_OnlyMarkedSeen() {
+        // Arrange
+        testJob.setContentHash(JobContentHash.of(testEvent));
+        when(jobRepository.findBySourceAndExternalId(any(), anyString())).thenReturn(Optional.of(testJob));
+
+        // Act
+        Job savedJob = jobService.saveRawJob(testEvent);
+
+        // Assert
+        assertSame(testJob, savedJob);
+        verify(jobRepository, times(1)).markSeen(eq(1L), any(LocalDateTime.class));
+        verify(jobRepository, never()).save(any(Job.class));
+        verify(companyService, never()).findOrCreateCompany(anyString());
+        verify(jobPageCache, never()).invalidateAllAfterCommit();
+    }
+
+    /**
+     * Test that whitespace differences between scrapes are not a change,
+     * while a real description edit is.
+     */
+    @Test
+    public void testContentHash_IgnoresWhitespaceOnly() {
+        RawJobEvent reformatted = RawJobEvent.builder()
+                .source(testEvent.getSource())
+                .title("  Senior   Java Developer ")
+                .company("Google")
+                .location("San Francisco, CA")
+                .description("Exciting opportunity for a\n Senior Java Developer...")
+                .url(testEvent.getUrl())
+                .postedDate("3 days ago")
+                .build();
+        RawJobEvent edited = RawJobEvent.builder()
+                .source(testEvent.getSource())
+                .title("Senior Java Developer")
+                .company("Google")
+                .location("San Francisco, CA")
+                .description("Exciting opportunity for a Staff Java Developer...")
+                .url(testEvent.getUrl())
+                .build();
+
+        assertEquals(JobContentHash.of(testEvent), JobContentHash.of(reformatted));
+        assertNotEquals(JobContentHash.of(testEvent), JobContentHash.of(edited));
+    }
+
     /**
      * Test saving job without company information.
      * Verifies that job is saved without company association.
@@ -132,7 +190,7 @@ public class JobServiceRawJobTest {
                 .source(Source.of("LINKEDIN"))
                 .build();
 
-        when(jobRepository.findByUrl(anyString())).thenReturn(Optional.empty());
+        when(jobRepository.findBySourceAndExternalId(any(), anyString())).thenReturn(Optional.empty());
         when(jobRepository.save(any(Job.class))).thenReturn(testJob);
 
         // Act
@@ -158,7 +216,7 @@ public class JobServiceRawJobTest {
                 .source(Source.of("LINKEDIN"))
                 .build();
 
-        when(jobRepository.findByUrl(anyString())).thenReturn(Optional.empty());
+        when(jobRepository.findBySourceAndExternalId(any(), anyString())).thenReturn(Optional.empty());
         when(jobRepository.save(any(Job.class))).thenReturn(testJob);
 
         // Act
@@ -176,7 +234,7 @@ public class JobServiceRawJobTest {
     @Test
     public void testSaveRawJob_DuplicateDetection_ByUrl() {
         // Arrange
-        when(jobRepository.findByUrl("https://linkedin.com/jobs/12345"))
+        when(jobRepository.findBySourceAndExternalId(testEvent.getSource(), JobUrls.externalId("https://linkedin.com/jobs/12345")))
                 .thenReturn(Optional.of(testJob));
         when(companyService.findOrCreateCompany(anyString())).thenReturn(testCompany);
         when(jobRepository.save(any(Job.class))).thenReturn(testJob);
@@ -185,10 +243,11 @@ public class JobServiceRawJobTest {
         Job firstSave = jobService.saveRawJob(testEvent);
         Job secondSave = jobService.saveRawJob(testEvent);
 
-        // Assert - should be same job, not duplicate
+        // Assert - should be same job, not duplicate; the unchanged re-scrape is only marked seen
         assertEquals(firstSave.getId(), secondSave.getId());
-        verify(jobRepository, times(2)).findByUrl("https://linkedin.com/jobs/12345");
-        verify(jobRepository, times(2)).save(testJob);
+        verify(jobRepository, times(2)).findBySourceAndExternalId(testEvent.getSource(), JobUrls.externalId("https://linkedin.com/jobs/12345"));
+        verify(jobRepository, times(1)).save(testJob);
+        verify(jobRepository, times(1)).markSeen(eq(1L), any(LocalDateTime.class));
     }
 
     /**
@@ -209,7 +268,7 @@ public class JobServiceRawJobTest {
                 .scrapedAt(LocalDateTime.now())
                 .build();
 
-        when(jobRepository.findByUrl(anyString())).thenReturn(Optional.empty());
+        when(jobRepository.findBySourceAndExternalId(any(), anyString())).thenReturn(Optional.empty());
         when(companyService.findOrCreateCompany(anyString())).thenReturn(testCompany);
         when(jobRepository.save(any(Job.class))).thenReturn(testJob);
 
@@ -228,7 +287,7 @@ public class JobServiceRawJobTest {
     @Test
     public void testSaveRawJob_DifferentSources_Success() {
         // Arrange
-        when(jobRepository.findByUrl(anyString())).thenReturn(Optional.empty());
+        when(jobRepository.findBySourceAndExternalId(any(), anyString())).thenReturn(Optional.empty());
         when(jobRepository.save(any(Job.class))).thenReturn(testJob);
 
         RawJobEvent linkedInJob = RawJobEvent.builder()
@@ -269,7 +328,7 @@ public class JobServiceRawJobTest {
     public void testSaveRawJob_UpdateKeepsJobActive() {
         // Arrange
         testJob.setIsActive(false); // Simulate inactive job
-        when(jobRepository.findByUrl(anyString())).thenReturn(Optional.of(testJob));
+        when(jobRepository.findBySourceAndExternalId(any(), anyString())).thenReturn(Optional.of(testJob));
         when(companyService.findOrCreateCompany(anyString())).thenReturn(testCompany);
         when(jobRepository.save(any(Job.class))).thenReturn(testJob);
 
@@ -299,7 +358,7 @@ public class JobServiceRawJobTest {
                 .postedDate(dateString)
                 .build();
 
-        when(jobRepository.findByUrl(anyString())).thenReturn(Optional.empty());
+        when(jobRepository.findBySourceAndExternalId(any(), anyString())).thenReturn(Optional.empty());
         when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
@@ -310,4 +369,30 @@ public class JobServiceRawJobTest {
         assertEquals(expectedDate, savedJob.getPostedDate());
         verify(jobRepository, times(1)).save(any(Job.class));
     }
+
+    /**
+     * Test a job posted hours before the scrape keeps the scrape date.
+     * Relative phrases count back from the scrape time, not from midnight.
+     */
+    @Test
+    public void testSaveRawJob_PostedHoursAgo_KeepsScrapeDate() {
+        // Arrange
+        LocalDateTime scrapedAt = LocalDateTime.of(2026, 3, 10, 12, 0);
+        RawJobEvent recentEvent = RawJobEvent.builder()
+                .title("Developer")
+                .url("https://example.com/job-recent")
+                .source(Source.of("LINKEDIN"))
+                .postedDate("3 hours ago")
+                .scrapedAt(scrapedAt)
+                .build();
+
+        when(jobRepository.findBySourceAndExternalId(any(), anyString())).thenReturn(Optional.empty());
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Job savedJob = jobService.saveRawJob(recentEvent);
+
+        // Assert
+        assertEquals(LocalDate.of(2026, 3, 10), savedJob.getPostedDate());
+    }
 }
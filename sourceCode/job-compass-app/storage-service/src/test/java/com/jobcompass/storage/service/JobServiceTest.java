@@ -2,21 +2,35 @@ package com.jobcompass.storage.service;
 
 import com.jobcompass.common.events.ProcessedJobEvent;
 import com.jobcompass.common.model.Source;
+import com.jobcompass.common.util.JobUrls;
+import com.jobcompass.storage.cache.JobPageCache;
+import com.jobcompass.storage.dto.JobSummary;
 import com.jobcompass.storage.entity.Company;
 import com.jobcompass.storage.entity.Job;
 import com.jobcompass.storage.repository.JobRepository;
-import org.junit.Before;
-import org.junit.Test;
-import org.junit.runner.RunWith;
+import com.jobcompass.storage.repository.JobRepositoryCustom.RankedJobId;
+import com.jobcompass.storage.skills.SkillExtractor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import static org.junit.Assert.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -25,7 +39,7 @@ import static org.mockito.Mockito.*;
  * 
  * @author Palrajjayaraj
  */
-@RunWith(MockitoJUnitRunner.class)
+@ExtendWith(MockitoExtension.class)
 public class JobServiceTest {
 
     @Mock
@@ -37,6 +51,15 @@ public class JobServiceTest {
     @Mock
     private SkillService skillService;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private JobPageCache jobPageCache;
+
+    @Mock
+    private SkillExtractor skillExtractor;
+
     @InjectMocks
     private JobService jobService;
 
@@ -46,7 +69,7 @@ public class JobServiceTest {
     /**
      * Set up test data before each test.
      */
-    @Before
+    @BeforeEach
     public void setUp() {
         testCompany = Company.builder()
             .id(1L)
@@ -71,7 +94,7 @@ public class JobServiceTest {
     @Test
     public void testSaveOrUpdateJob_NewJob() {
         // Arrange
-        when(jobRepository.findByUrl(testEvent.getUrl())).thenReturn(Optional.empty());
+        when(jobRepository.findBySourceAndExternalId(testEvent.getSource(), JobUrls.externalId(testEvent.getUrl()))).thenReturn(Optional.empty());
         when(companyService.findOrCreateCompany("Google")).thenReturn(testCompany);
         when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> {
             Job job = invocation.getArgument(0);
@@ -89,9 +112,10 @@ public class JobServiceTest {
         assertEquals(testCompany, savedJob.getCompany());
         assertTrue(savedJob.getIsActive());
 
-        verify(jobRepository, times(1)).findByUrl(testEvent.getUrl());
+        verify(jobRepository, times(1)).findBySourceAndExternalId(testEvent.getSource(), JobUrls.externalId(testEvent.getUrl()));
         verify(companyService, times(1)).findOrCreateCompany("Google");
         verify(jobRepository, times(1)).save(any(Job.class));
+        verify(jobPageCache, times(1)).invalidateAllAfterCommit();
     }
 
     /**
@@ -108,7 +132,7 @@ public class JobServiceTest {
             .isActive(false)
             .build();
 
-        when(jobRepository.findByUrl(testEvent.getUrl())).thenReturn(Optional.of(existingJob));
+        when(jobRepository.findBySourceAndExternalId(testEvent.getSource(), JobUrls.externalId(testEvent.getUrl()))).thenReturn(Optional.of(existingJob));
         when(companyService.findOrCreateCompany("Google")).thenReturn(testCompany);
         when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -121,11 +145,36 @@ public class JobServiceTest {
         assertEquals("Senior Java Developer", updatedJob.getTitle());  // Updated title
         assertTrue(updatedJob.getIsActive());  // Reactivated
 
-        verify(jobRepository, times(1)).findByUrl(testEvent.getUrl());
+        verify(jobRepository, times(1)).findBySourceAndExternalId(testEvent.getSource(), JobUrls.externalId(testEvent.getUrl()));
         verify(companyService, times(1)).findOrCreateCompany("Google");
         verify(jobRepository, times(1)).save(any(Job.class));
     }
 
+    /**
+     * Test a processed re-scrape with unchanged content only marks the job as seen.
+     */
+    @Test
+    public void testSaveOrUpdateJob_UnchangedJobIsOnlyMarkedSeen() {
+        // Arrange
+        Job existingJob = Job.builder()
+            .id(1L)
+            .title("Senior Java Developer")
+            .source(Source.of("LINKEDIN"))
+            .contentHash(JobContentHash.of(testEvent))
+            .isActive(true)
+            .build();
+        when(jobRepository.findBySourceAndExternalId(testEvent.getSource(), JobUrls.externalId(testEvent.getUrl()))).thenReturn(Optional.of(existingJob));
+
+        // Act
+        Job job = jobService.saveOrUpdateJob(testEvent);
+
+        // Assert
+        assertSame(existingJob, job);
+        verify(jobRepository, times(1)).markSeen(eq(1L), any(LocalDateTime.class));
+        verify(jobRepository, never()).save(any(Job.class));
+        verifyNoInteractions(companyService, jobPageCache);
+    }
+
     /**
      * Test finding job by URL.
      */
@@ -173,4 +222,75 @@ public class JobServiceTest {
         verify(jobRepository, times(1)).findById(1L);
         verify(jobRepository, times(1)).save(testJob);
     }
+
+    /**
+     * Test loading skill names for a list of jobs in one query.
+     */
+    @Test
+    public void testFindSkillNamesByJobIds() {
+        // Arrange
+        List<Long> jobIds = Arrays.asList(1L, 2L);
+        when(jobRepository.findSkillNamesByJobIds(jobIds)).thenReturn(Arrays.asList(
+            new Object[]{1L, "Java"},
+            new Object[]{1L, "Kafka"},
+            new Object[]{2L, "Python"}));
+
+        // Act
+        Map<Long, Set<String>> result = jobService.findSkillNamesByJobIds(jobIds);
+
+        // Assert
+        assertEquals(Set.of("Java", "Kafka"), result.get(1L));
+        assertEquals(Set.of("Python"), result.get(2L));
+        verify(jobRepository, times(1)).findSkillNamesByJobIds(jobIds);
+    }
+
+    /**
+     * Test streaming active jobs in chunks with the persistence context cleared between chunks.
+     */
+    @Test
+    public void testStreamActiveJobs_Chunks() {
+        // Arrange
+        when(jobRepository.streamActiveJobs()).thenReturn(Stream.of(
+            Job.builder().id(1L).build(),
+            Job.builder().id(2L).build(),
+            Job.builder().id(3L).build(),
+            Job.builder().id(4L).build(),
+            Job.builder().id(5L).build()));
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        // Act
+        long streamed = jobService.streamActiveJobs(2, chunk -> chunkSizes.add(chunk.size()));
+
+        // Assert
+        assertEquals(5, streamed);
+        assertEquals(Arrays.asList(2, 2, 1), chunkSizes);
+        verify(entityManager, times(2)).clear();
+    }
+
+    /**
+     * Test full-text search keeps the rank order of the search query.
+     */
+    @Test
+    public void testSearchJobs_KeepsRankOrder() {
+        // Arrange
+        when(jobRepository.searchIds("java kafka", null, null, 3)).thenReturn(Arrays.asList(
+            new RankedJobId(7L, 0.9f),
+            new RankedJobId(3L, 0.5f)));
+        when(jobRepository.findSummaries(any(), eq(2))).thenReturn(Arrays.asList(
+            summary(3L),
+            summary(7L)));
+
+        // Act
+        List<JobService.RankedJob> results = jobService.searchJobs("java kafka", null, null, 3);
+
+        // Assert
+        assertEquals(2, results.size());
+        assertEquals(7L, results.get(0).job().id().longValue());
+        assertEquals(0.9f, results.get(0).rank(), 0.0f);
+        assertEquals(3L, results.get(1).job().id().longValue());
+    }
+
+    private JobSummary summary(Long id) {
+        return new JobSummary(id, "Job " + id, null, null, null, null, LocalDate.now(), null, null);
+    }
 }
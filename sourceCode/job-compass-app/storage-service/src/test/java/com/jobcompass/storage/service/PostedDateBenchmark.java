@@ -0,0 +1,89 @@
+package com.jobcompass.storage.service;
+
+import com.jobcompass.common.util.PostedDates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+/**
+ * Posted date parsing over scraped text: the previous
+ * {@code LocalDate.parse} with an exception fallback against
+ * {@link PostedDates}. Most sites show relative text, so most inputs
+ * took the exception path. Run with
+ * {@code mvn -pl storage-service test-compile exec:exec -Dexec.executable=java
+ * -Dexec.classpathScope=test -Dexec.args="-cp %classpath org.openjdk.jmh.Main PostedDateBenchmark"}.
+ *
+ * @author Palrajjayaraj
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(PostedDateBenchmark.INPUTS)
+public class PostedDateBenchmark {
+
+    static final int INPUTS = 1024;
+
+    private static final String[] ISO = {"2026-01-24", "2025-12-31", "2026-02-28T09:15:00"};
+
+    private static final String[] RELATIVE = {
+            "2 days ago", "30+ days ago", "an hour ago", "Just posted", "Yesterday", "3h", "1 week ago",
+            "vor 2 Tagen", "il y a 1 semaine", "hace 3 días", "Recently", "Actively recruiting"};
+
+    /**
+     * Percentage of inputs that are ISO dates.
+     */
+    @Param({"10", "50"})
+    public int isoPercent;
+
+    private final LocalDate today = LocalDate.of(2026, 3, 1);
+    private final LocalDateTime scrapedAt = today.atTime(12, 0);
+    private String[] inputs;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        inputs = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            inputs[i] = random.nextInt(100) < isoPercent
+                    ? ISO[random.nextInt(ISO.length)]
+                    : RELATIVE[random.nextInt(RELATIVE.length)];
+        }
+    }
+
+    @Benchmark
+    public void exceptionFallback(Blackhole blackhole) {
+        for (String input : inputs) {
+            LocalDate posted;
+            try {
+                posted = LocalDate.parse(input);
+            } catch (DateTimeParseException e) {
+                posted = today;
+            }
+            blackhole.consume(posted);
+        }
+    }
+
+    @Benchmark
+    public void postedDates(Blackhole blackhole) {
+        for (String input : inputs) {
+            LocalDateTime posted = PostedDates.parse(input, scrapedAt);
+            blackhole.consume(posted != null ? posted.toLocalDate() : today);
+        }
+    }
+}
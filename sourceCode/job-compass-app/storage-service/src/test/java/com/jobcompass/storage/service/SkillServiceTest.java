@@ -1,21 +1,27 @@
 package com.jobcompass.storage.service;
 
+import com.jobcompass.storage.cache.SkillDictionary;
 import com.jobcompass.storage.entity.Skill;
 import com.jobcompass.storage.entity.enums.SkillCategory;
 import com.jobcompass.storage.repository.SkillRepository;
-import org.junit.Before;
-import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
+import com.jobcompass.storage.skills.SeedSkills.SeedSkill;
+import com.jobcompass.storage.skills.SkillExtractor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-import static org.junit.Assert.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 /**
@@ -23,20 +29,27 @@ import static org.mockito.Mockito.*;
  * 
  * @author Palrajjayaraj
  */
-@RunWith(MockitoJUnitRunner.class)
+@ExtendWith(MockitoExtension.class)
 public class SkillServiceTest {
 
     @Mock
     private SkillRepository skillRepository;
 
-    @InjectMocks
+    @Mock
+    private SkillExtractor skillExtractor;
+
+    private SkillDictionary skillDictionary;
+
     private SkillService skillService;
 
     private Skill javaSkill;
     private Skill springSkill;
 
-    @Before
+    @BeforeEach
     public void setUp() {
+        skillDictionary = new SkillDictionary(new SimpleMeterRegistry());
+        skillService = new SkillService(skillRepository, skillDictionary, skillExtractor);
+
         javaSkill = Skill.builder()
                 .id(1L)
                 .name("Java")
@@ -51,59 +64,71 @@ public class SkillServiceTest {
     }
 
     @Test
-    public void testFindOrCreateSkills_ExistingSkills() {
-        Set<String> skillNames = new HashSet<>();
-        skillNames.add("Java");
-        skillNames.add("Spring Boot");
-        
-        when(skillRepository.findByName("Java")).thenReturn(Optional.of(javaSkill));
-        when(skillRepository.findByName("Spring Boot")).thenReturn(Optional.of(springSkill));
+    public void testFindOrCreateSkillIds_ExistingSkills() {
+        Set<String> skillNames = Set.of("Java", "Spring Boot");
 
-        Set<Skill> result = skillService.findOrCreateSkills(skillNames);
+        when(skillRepository.insertMissing(skillNames)).thenReturn(Map.of());
+        when(skillRepository.findByNameIn(skillNames)).thenReturn(List.of(javaSkill, springSkill));
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
+        Map<String, Long> ids = skillService.findOrCreateSkillIds(skillNames);
+
+        assertEquals(Map.of("Java", 1L, "Spring Boot", 2L), ids);
+        verify(skillRepository, never()).findByName(anyString());
         verify(skillRepository, never()).save(any(Skill.class));
+        assertEquals(2, skillDictionary.size());
     }
 
     @Test
-    public void testFindOrCreateSkills_NewSkill() {
-        Set<String> skillNames = new HashSet<>();
-        skillNames.add("Python");
-        
-        Skill pythonSkill = Skill.builder()
-                .id(3L)
-                .name("Python")
-                .category(SkillCategory.PROGRAMMING_LANGUAGE)
-                .build();
+    public void testFindOrCreateSkillIds_KnownSkillsSkipQueries() {
+        skillDictionary.putAll(Map.of("Java", 1L, "Spring Boot", 2L));
+
+        Map<String, Long> ids = skillService.findOrCreateSkillIds(Set.of("Java", "Spring Boot"));
 
-        when(skillRepository.findByName("Python")).thenReturn(Optional.empty());
-        when(skillRepository.save(any(Skill.class))).thenReturn(pythonSkill);
+        assertEquals(Map.of("Java", 1L, "Spring Boot", 2L), ids);
+        verifyNoInteractions(skillRepository);
+    }
 
-        Set<Skill> result = skillService.findOrCreateSkills(skillNames);
+    @Test
+    public void testFindOrCreateSkillIds_KnownFromDictionary_NewInserted() {
+        skillDictionary.putAll(Map.of("Java", 1L));
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(skillRepository, times(1)).save(any(Skill.class));
+        when(skillRepository.insertMissing(Set.of("Python"))).thenReturn(Map.of("Python", 3L));
+
+        Map<String, Long> ids = skillService.findOrCreateSkillIds(Set.of("Java", "Python"));
+
+        assertEquals(Map.of("Java", 1L, "Python", 3L), ids);
+        verify(skillRepository, never()).findByNameIn(anyCollection());
+        assertEquals(2, skillDictionary.size());
     }
 
     @Test
-    public void testFindOrCreateSkills_EmptySet() {
-        Set<String> skillNames = new HashSet<>();
+    public void testLoadSkillDictionary() {
+        when(skillExtractor.seedSkills()).thenReturn(List.of(
+                new SeedSkill("Java", SkillCategory.PROGRAMMING_LANGUAGE, List.of())));
+        when(skillRepository.findAll()).thenReturn(List.of(javaSkill, springSkill));
 
-        Set<Skill> result = skillService.findOrCreateSkills(skillNames);
+        skillService.loadSkillDictionary();
 
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(skillRepository, never()).findByName(anyString());
+        verify(skillRepository).insertWithCategories(Map.of("Java", SkillCategory.PROGRAMMING_LANGUAGE));
+        assertEquals(2, skillDictionary.size());
+        assertTrue(skillDictionary.unknown(Set.of("Java", "Spring Boot")).isEmpty());
     }
 
     @Test
-    public void testFindOrCreateSkills_NullSet() {
-        Set<Skill> result = skillService.findOrCreateSkills(null);
+    public void testFindOrCreateSkillIds_EmptySet() {
+        Map<String, Long> ids = skillService.findOrCreateSkillIds(new HashSet<>());
 
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertNotNull(ids);
+        assertTrue(ids.isEmpty());
+        verifyNoInteractions(skillRepository);
+    }
+
+    @Test
+    public void testFindOrCreateSkillIds_NullSet() {
+        Map<String, Long> ids = skillService.findOrCreateSkillIds(null);
+
+        assertNotNull(ids);
+        assertTrue(ids.isEmpty());
     }
 
     @Test
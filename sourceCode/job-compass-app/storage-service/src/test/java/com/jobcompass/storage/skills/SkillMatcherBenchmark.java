@@ -0,0 +1,112 @@
+package com.jobcompass.storage.skills;
+
+import com.jobcompass.storage.skills.SeedSkills.SeedSkill;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Throughput of skill extraction over job description text.
+ * The {@code megabytes} counter is reported per second, i.e. in MB/s of
+ * UTF-8 description text. Run with
+ * {@code mvn -pl storage-service test-compile exec:exec -Dexec.executable=java
+ * -Dexec.classpathScope=test -Dexec.args="-cp %classpath org.openjdk.jmh.Main SkillMatcherBenchmark"}.
+ *
+ * @author Palrajjayaraj
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SkillMatcherBenchmark {
+
+    private static final String[] FILLER = {
+            "we", "are", "looking", "for", "an", "experienced", "engineer", "to", "join", "our", "team",
+            "you", "will", "design", "build", "and", "operate", "services", "with", "customers", "in",
+            "a", "fast-paced", "environment", "experience", "of", "years", "strong", "knowledge", "plus"};
+
+    /**
+     * Skills added to the seed dictionary, standing in for a grown skills table.
+     */
+    @Param({"0", "5000"})
+    public int extraSkills;
+
+    private SkillMatcher matcher;
+    private List<String> descriptions;
+    private double descriptionMegabytes;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> skillByPattern = new LinkedHashMap<>();
+        List<String> skillNames = new ArrayList<>();
+        for (SeedSkill seed : SeedSkills.load()) {
+            skillByPattern.put(seed.name(), seed.name());
+            seed.aliases().forEach(alias -> skillByPattern.put(alias, seed.name()));
+            skillNames.add(seed.name());
+        }
+        for (int i = 0; i < extraSkills; i++) {
+            skillByPattern.put("Product " + i + " Platform", "Product " + i + " Platform");
+        }
+        matcher = SkillMatcher.build(skillByPattern);
+
+        // About 2 KB per description, one skill mention every 20 words
+        Random random = new Random(42);
+        descriptions = new ArrayList<>();
+        long bytes = 0;
+        for (int d = 0; d < 500; d++) {
+            StringBuilder text = new StringBuilder();
+            while (text.length() < 2048) {
+                if (random.nextInt(20) == 0) {
+                    text.append(skillNames.get(random.nextInt(skillNames.size())));
+                } else {
+                    text.append(FILLER[random.nextInt(FILLER.length)]);
+                }
+                text.append(random.nextInt(12) == 0 ? ".\n" : " ");
+            }
+            descriptions.add(text.toString());
+            bytes += text.toString().getBytes(StandardCharsets.UTF_8).length;
+        }
+        descriptionMegabytes = bytes / (1024.0 * 1024.0);
+    }
+
+    @Benchmark
+    public void extract(Counters counters, Blackhole blackhole) {
+        for (String description : descriptions) {
+            blackhole.consume(matcher.match(description));
+        }
+        counters.megabytes += descriptionMegabytes;
+    }
+
+    /**
+     * Per-thread counters reported next to the benchmark score.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        public double megabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+        }
+    }
+}
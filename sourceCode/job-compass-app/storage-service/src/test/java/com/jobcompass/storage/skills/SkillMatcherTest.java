@@ -0,0 +1,85 @@
+package com.jobcompass.storage.skills;
+
+import com.jobcompass.storage.cache.SkillDictionary;
+import com.jobcompass.storage.entity.enums.SkillCategory;
+import com.jobcompass.storage.skills.SeedSkills.SeedSkill;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for SkillMatcher and SkillExtractor.
+ */
+public class SkillMatcherTest {
+
+    private final SkillMatcher matcher = SkillMatcher.build(Map.of(
+            "Java", "Java",
+            "JavaScript", "JavaScript",
+            "Spring Boot", "Spring Boot",
+            "C++", "C++",
+            "C#", "C#",
+            "Node.js", "Node.js",
+            "K8s", "Kubernetes",
+            "Kubernetes", "Kubernetes"));
+
+    @Test
+    public void testMatch_FindsAllSkillsInOnePass() {
+        Set<String> skills = matcher.match("Senior Java engineer: Spring Boot, Kubernetes (k8s) and some C++.");
+
+        assertEquals(Set.of("Java", "Spring Boot", "Kubernetes", "C++"), skills);
+    }
+
+    @Test
+    public void testMatch_RespectsWordBoundaries() {
+        assertEquals(Set.of("JavaScript"), matcher.match("Modern JavaScript tooling"));
+        assertTrue(matcher.match("Javanese speakers, C#-minded").contains("C#"));
+        assertFalse(matcher.match("Javanese speakers").contains("Java"));
+        assertFalse(matcher.match("ABC++").contains("C++"));
+    }
+
+    @Test
+    public void testMatch_IgnoresCaseAndCollapsesWhitespace() {
+        assertEquals(Set.of("Spring Boot", "Node.js"), matcher.match("SPRING\n   boot services on node.JS"));
+    }
+
+    @Test
+    public void testMatch_EmptyDictionaryOrText() {
+        assertTrue(SkillMatcher.build(Map.of()).match("Java").isEmpty());
+        assertTrue(matcher.match("").isEmpty());
+        assertTrue(matcher.match(null).isEmpty());
+    }
+
+    @Test
+    public void testSeedSkills_LoadBundledDictionary() {
+        List<SeedSkill> seeds = SeedSkills.load();
+
+        assertTrue(seeds.stream().anyMatch(seed -> seed.name().equals("Kubernetes")
+                && seed.category() == SkillCategory.DEVOPS && seed.aliases().contains("K8s")));
+    }
+
+    @Test
+    public void testExtractor_RebuildsWhenDictionaryGrows() {
+        SkillDictionary dictionary = new SkillDictionary(new SimpleMeterRegistry());
+        List<Runnable> rebuilds = new ArrayList<>();
+        SkillExtractor extractor = new SkillExtractor(dictionary,
+                List.of(new SeedSkill("Java", SkillCategory.PROGRAMMING_LANGUAGE, List.of())), rebuilds::add);
+
+        assertEquals(Set.of("Java"), extractor.extract("Java and Elixir"));
+
+        dictionary.putAll(Map.of("Elixir", 7L));
+        // The stale matcher keeps serving until the rebuild has run
+        assertEquals(Set.of("Java"), extractor.extract("Java and Elixir"));
+        assertEquals(1, rebuilds.size());
+
+        rebuilds.get(0).run();
+        assertEquals(Set.of("Java", "Elixir"), extractor.extract("Java and Elixir"));
+    }
+}
@@ -0,0 +1,73 @@
+-- Substring search benchmark: sequential scan versus pg_trgm GIN index.
+--
+-- Seeds 1,000,000 jobs and 50,000 companies in a throwaway "bench" schema and
+-- runs the same LOWER(column) LIKE '%term%' predicates the storage service
+-- issues, first without and then with the trigram indexes from V8.
+--
+-- Run against a scratch database (requires the pg_trgm extension):
+--   psql -d scratch -f trigram_search_benchmark.sql
+-- Compare the "Execution Time" lines of each EXPLAIN ANALYZE pair.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+SET search_path TO bench, public;
+
+CREATE TABLE companies (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE jobs (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(500) NOT NULL,
+    location VARCHAR(255),
+    company_id BIGINT REFERENCES companies(id),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+INSERT INTO companies (name)
+SELECT (ARRAY['Acme', 'Globex', 'Initech', 'Umbrella', 'Hooli', 'Stark', 'Wayne', 'Wonka'])[1 + g % 8]
+       || ' ' || (ARRAY['Systems', 'Labs', 'Digital', 'Software', 'Analytics'])[1 + g % 5]
+       || ' ' || g
+FROM generate_series(1, 50000) AS g;
+
+INSERT INTO jobs (title, location, company_id, is_active)
+SELECT 'Job ' || g,
+       (ARRAY['Berlin', 'Munich', 'Hamburg', 'Frankfurt am Main', 'Cologne', 'Stuttgart',
+              'Dusseldorf', 'Leipzig', 'Dresden', 'Remote, Germany'])[1 + g % 10]
+       || ', ' || (ARRAY['Germany', 'DE', 'Deutschland'])[1 + g % 3]
+       || ' ' || md5(g::text),
+       1 + g % 50000,
+       g % 10 <> 0
+FROM generate_series(1, 1000000) AS g;
+
+ANALYZE companies;
+ANALYZE jobs;
+
+-- 1. Without trigram indexes: sequential scans
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT j.id FROM jobs j
+WHERE LOWER(j.location) LIKE '%ab12%' AND j.is_active = TRUE;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT j.id FROM jobs j JOIN companies c ON c.id = j.company_id
+WHERE LOWER(c.name) LIKE '%tech software 4218%' AND j.is_active = TRUE;
+
+-- 2. With the V8 trigram indexes
+CREATE INDEX idx_job_location_trgm ON jobs USING GIN (LOWER(location) gin_trgm_ops);
+CREATE INDEX idx_company_name_trgm ON companies USING GIN (LOWER(name) gin_trgm_ops);
+CREATE INDEX idx_job_company_id ON jobs(company_id);
+ANALYZE companies;
+ANALYZE jobs;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT j.id FROM jobs j
+WHERE LOWER(j.location) LIKE '%ab12%' AND j.is_active = TRUE;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT j.id FROM jobs j JOIN companies c ON c.id = j.company_id
+WHERE LOWER(c.name) LIKE '%tech software 4218%' AND j.is_active = TRUE;
+
+DROP SCHEMA bench CASCADE;